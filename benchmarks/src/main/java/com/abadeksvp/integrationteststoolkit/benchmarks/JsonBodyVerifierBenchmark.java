@@ -0,0 +1,110 @@
+package com.abadeksvp.integrationteststoolkit.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import com.abadeksvp.integrationteststoolkit.JsonAssertUtils;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JacksonComparisonEngine;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JsonBodyVerifier;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import lombok.SneakyThrows;
+
+/**
+ * Measures the matching of logged request bodies against an expected JSON body, for bodies of different sizes and
+ * different numbers of ignored fields. Every logged body is distinct, so every body is compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBodyVerifierBenchmark {
+
+    private static final int REQUEST_COUNT = 100;
+
+    @Param({"10", "100", "1000"})
+    private int fieldCount;
+
+    @Param({"0", "10"})
+    private int ignoredFieldCount;
+
+    private JsonBodyVerifier verifier;
+    private JsonBodyVerifier parallelVerifier;
+    private JsonBodyVerifier jacksonVerifier;
+    private JsonBodyVerifier exactVerifier;
+    private List<LoggedRequest> requests;
+
+    @Setup
+    public void setUp() {
+        String[] ignoredFields = IntStream.range(0, ignoredFieldCount)
+                .mapToObj(i -> "field" + i)
+                .toArray(String[]::new);
+        verifier = new JsonBodyVerifier(body(0),
+                JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT, ignoredFields));
+        parallelVerifier = verifier.inParallel();
+        jacksonVerifier = new JsonBodyVerifier(body(0),
+                new JacksonComparisonEngine(JSONCompareMode.STRICT, ignoredFields));
+        exactVerifier = new JsonBodyVerifier(body(0));
+        requests = IntStream.range(0, REQUEST_COUNT)
+                .mapToObj(i -> loggedRequest(body(i)))
+                .toList();
+    }
+
+    @Benchmark
+    public int countMatches() {
+        return verifier.countMatches(requests);
+    }
+
+    @Benchmark
+    public int countMatchesInParallel() {
+        return parallelVerifier.countMatches(requests);
+    }
+
+    @Benchmark
+    public int countMatchesWithJackson() {
+        return jacksonVerifier.countMatches(requests);
+    }
+
+    // looks the bodies up by their cached canonical hashes, the ignored fields do not apply
+    @Benchmark
+    public int countExactMatches() {
+        return exactVerifier.countMatches(requests);
+    }
+
+    // the bodies of different requests differ in the value of the last field
+    @SneakyThrows
+    private String body(int requestNumber) {
+        JSONObject body = new JSONObject();
+        for (int i = 0; i < fieldCount - 1; i++) {
+            body.put("field" + i, "value" + i);
+        }
+        body.put("field" + (fieldCount - 1), "value" + requestNumber);
+        return body.toString();
+    }
+
+    private static LoggedRequest loggedRequest(String body) {
+        return new LoggedRequest("/test", "http://localhost/test", RequestMethod.POST, "127.0.0.1",
+                new HttpHeaders(), null, false, new Date(), body.getBytes(StandardCharsets.UTF_8), null, "HTTP/1.1");
+    }
+}
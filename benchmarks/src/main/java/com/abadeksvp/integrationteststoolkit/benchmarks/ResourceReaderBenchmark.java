@@ -0,0 +1,95 @@
+package com.abadeksvp.integrationteststoolkit.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.abadeksvp.integrationteststoolkit.resource.ClasspathResourceReader;
+import com.abadeksvp.integrationteststoolkit.resource.ReadResult;
+import com.abadeksvp.integrationteststoolkit.resource.ResourceCache;
+import com.abadeksvp.integrationteststoolkit.resource.ResourceTemplate;
+
+/**
+ * Measures reading a classpath resource and substituting its placeholders, with chained
+ * {@link ReadResult#andReplace} calls and with a compiled template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceReaderBenchmark {
+
+    private static final String RESOURCE_NAME = "/benchmark-body.json";
+    private static final Map<String, String> VALUES = Map.of(
+            "name", "John",
+            "email", "john@example.com",
+            "role", "admin",
+            "city", "London",
+            "zip", "E1 6AN"
+    );
+    private static final Map<Pattern, String> PATTERNS = Map.of(
+            Pattern.compile("\\$\\{name}"), "John",
+            Pattern.compile("\\$\\{email}"), "john@example.com",
+            Pattern.compile("\\$\\{role}"), "admin",
+            Pattern.compile("\\$\\{city}"), "London",
+            Pattern.compile("\\$\\{zip}"), "E1 6AN"
+    );
+
+    private ClasspathResourceReader reader;
+    private ClasspathResourceReader cachingReader;
+    private ResourceTemplate template;
+
+    @Setup
+    public void setUp() {
+        reader = new ClasspathResourceReader();
+        cachingReader = new ClasspathResourceReader(StandardCharsets.UTF_8, new ResourceCache(1024 * 1024));
+        template = reader.readTemplate(RESOURCE_NAME);
+    }
+
+    @Benchmark
+    public String read() {
+        return reader.read(RESOURCE_NAME).get();
+    }
+
+    @Benchmark
+    public String readCached() {
+        return cachingReader.read(RESOURCE_NAME).get();
+    }
+
+    @Benchmark
+    public String readAndReplace() {
+        return cachingReader.read(RESOURCE_NAME)
+                .andReplace("\\$\\{name}", "John")
+                .andReplace("\\$\\{email}", "john@example.com")
+                .andReplace("\\$\\{role}", "admin")
+                .andReplace("\\$\\{city}", "London")
+                .andReplace("\\$\\{zip}", "E1 6AN")
+                .get();
+    }
+
+    @Benchmark
+    public String readAndReplacePatterns() {
+        ReadResult result = cachingReader.read(RESOURCE_NAME);
+        PATTERNS.forEach(result::andReplace);
+        return result.get();
+    }
+
+    @Benchmark
+    public String renderTemplate() {
+        return template.render(VALUES);
+    }
+}
@@ -0,0 +1,98 @@
+package com.abadeksvp.integrationteststoolkit.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockOperations;
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerifier;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+
+import lombok.SneakyThrows;
+
+import static com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec.requestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Measures the verification of a single request in request journals of different sizes, through the admin HTTP API
+ * and through the in-memory admin API of the server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireMockVerifierBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int journalSize;
+
+    private WireMockServer server;
+    private WireMockVerifier httpVerifier;
+    private WireMockVerifier inProcessVerifier;
+    private WireMockVerificationSpec spec;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        server.stubFor(any(anyUrl()).willReturn(ok()));
+        HttpClient client = HttpClient.newHttpClient();
+        IntStream.range(1, journalSize)
+                .parallel()
+                .forEach(i -> send(client, "/other/" + i));
+        send(client, "/target");
+
+        httpVerifier = new WireMockVerifier(WireMockOperations.of(new WireMock(server.port())));
+        inProcessVerifier = new WireMockVerifier(server);
+        spec = requestedFor(RequestMethod.GET, urlEqualTo("/target"))
+                .withNumberOfInteractions(exactly(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void verifyOverHttp() {
+        httpVerifier.verifyThat(spec);
+    }
+
+    @Benchmark
+    public void verifyInProcess() {
+        inProcessVerifier.verifyThat(spec);
+    }
+
+    @SneakyThrows
+    private void send(HttpClient client, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + path)).build();
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+}
@@ -0,0 +1,81 @@
+package com.abadeksvp.integrationteststoolkit.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.XmlBodyVerifier;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+/**
+ * Measures the matching of logged SOAP-like request bodies against an expected XML body with the WireMock XML pattern
+ * and with the streaming comparison. The bodies of different requests differ in the last item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlBodyVerifierBenchmark {
+
+    private static final int REQUEST_COUNT = 10;
+
+    @Param({"100", "10000"})
+    private int itemCount;
+
+    private XmlBodyVerifier patternVerifier;
+    private XmlBodyVerifier streamingVerifier;
+    private List<LoggedRequest> requests;
+
+    @Setup
+    public void setUp() {
+        patternVerifier = new XmlBodyVerifier(WireMock.equalToXml(body(0)));
+        streamingVerifier = new XmlBodyVerifier(body(0));
+        requests = IntStream.range(0, REQUEST_COUNT)
+                .mapToObj(i -> loggedRequest(body(i)))
+                .toList();
+    }
+
+    @Benchmark
+    public int countMatchesWithPattern() {
+        return patternVerifier.countMatches(requests);
+    }
+
+    @Benchmark
+    public int countMatchesStreaming() {
+        return streamingVerifier.countMatches(requests);
+    }
+
+    private String body(int requestNumber) {
+        StringBuilder body = new StringBuilder()
+                .append("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body><order>");
+        for (int i = 0; i < itemCount - 1; i++) {
+            body.append("<item id=\"").append(i).append("\"><name>item").append(i).append("</name></item>");
+        }
+        body.append("<item id=\"last\"><name>item").append(requestNumber).append("</name></item>");
+        return body.append("</order></soap:Body></soap:Envelope>").toString();
+    }
+
+    private static LoggedRequest loggedRequest(String body) {
+        return new LoggedRequest("/test", "http://localhost/test", RequestMethod.POST, "127.0.0.1",
+                new HttpHeaders(), null, false, new Date(), body.getBytes(StandardCharsets.UTF_8), null, "HTTP/1.1");
+    }
+}
@@ -0,0 +1,201 @@
+package com.abadeksvp.integrationteststoolkit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.skyscreamer.jsonassert.Customization;
+
+/**
+ * The IgnoredPaths class is a compiled set of the paths of the fields to ignore during JSON comparison. The paths
+ * have the same syntax and meaning as the paths of JSONAssert {@link Customization}s:
+ * <ul>
+ *     <li><code>items[0].id</code> is a literal path, array elements are addressed by their index;</li>
+ *     <li><code>*</code> matches one or more characters of a single path segment, e.g. <code>items[*].id</code>;</li>
+ *     <li><code>**.</code> matches any number of leading path segments, e.g. <code>**.id</code>.</li>
+ * </ul>
+ * Instead of matching every path against every pattern, the paths are compiled into a trie of path segments, so a
+ * path is checked with a single walk over its segments, however many fields are ignored. The few patterns that cannot
+ * be expressed as segments, such as <code>a**b</code>, are matched by JSONAssert itself.
+ */
+public final class IgnoredPaths {
+
+    private static final IgnoredPaths NONE = new IgnoredPaths(List.of());
+    // the ignored fields are usually constants of the tests, so the number of compiled sets stays small
+    private static final Map<List<String>, IgnoredPaths> COMPILED = new ConcurrentHashMap<>();
+
+    private final Node root = new Node();
+    private final List<Customization> fallback = new ArrayList<>();
+    private final boolean empty;
+
+    private IgnoredPaths(List<String> paths) {
+        paths.forEach(this::add);
+        this.empty = paths.isEmpty();
+    }
+
+    /**
+     * Returns the compiled set of the given paths. Identical sets of paths are compiled once and shared.
+     *
+     * @param paths the paths of the fields to ignore
+     * @return the compiled set of the paths
+     */
+    public static IgnoredPaths of(String... paths) {
+        if (paths == null || paths.length == 0) {
+            return NONE;
+        }
+        return COMPILED.computeIfAbsent(List.of(paths), IgnoredPaths::new);
+    }
+
+    /**
+     * @return <code>true</code> if no fields are ignored
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Checks whether the field with the given path is ignored.
+     *
+     * @param path the path of the field as built by JSONAssert, e.g. <code>items[0].id</code>
+     * @return <code>true</code> if the field is ignored
+     */
+    public boolean matches(String path) {
+        if (empty) {
+            return false;
+        }
+        if (trieMatches(path)) {
+            return true;
+        }
+        for (Customization customization : fallback) {
+            if (customization.appliesToPath(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(String path) {
+        // JSONAssert drops the stars at the very end of a pattern, which a trie of segments cannot mirror
+        if (path.endsWith("*")) {
+            fallback.add(ignore(path));
+            return;
+        }
+        String[] segments = path.split("\\.", -1);
+        Node node = root;
+        for (String segment : segments) {
+            if (segment.equals("**")) {
+                node = node.anySegments();
+            } else if (segment.contains("**")) {
+                fallback.add(ignore(path));
+                return;
+            } else if (segment.contains("*")) {
+                node = node.glob(segment);
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.terminal = true;
+    }
+
+    private boolean trieMatches(String path) {
+        List<Node> current = new ArrayList<>();
+        root.addTo(current);
+        int start = 0;
+        while (true) {
+            int end = path.indexOf('.', start);
+            String segment = path.substring(start, end < 0 ? path.length() : end);
+            List<Node> next = new ArrayList<>();
+            for (Node node : current) {
+                node.advance(segment, next);
+            }
+            if (next.isEmpty()) {
+                return false;
+            }
+            current = next;
+            if (end < 0) {
+                break;
+            }
+            start = end + 1;
+        }
+        for (Node node : current) {
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Customization ignore(String path) {
+        return new Customization(path, (o1, o2) -> true);
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Glob> globs = new LinkedHashMap<>();
+        // the node after a "**" segment, which can be reached by skipping any number of segments
+        private Node anySegments;
+        private boolean loop;
+        private boolean terminal;
+
+        private Node anySegments() {
+            if (anySegments == null) {
+                anySegments = new Node();
+                anySegments.loop = true;
+            }
+            return anySegments;
+        }
+
+        private Node glob(String segment) {
+            return globs.computeIfAbsent(segment, Glob::new).node;
+        }
+
+        private void advance(String segment, List<Node> next) {
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                literal.addTo(next);
+            }
+            for (Glob glob : globs.values()) {
+                if (glob.pattern.matcher(segment).matches()) {
+                    glob.node.addTo(next);
+                }
+            }
+            if (loop) {
+                addTo(next);
+            }
+        }
+
+        private void addTo(List<Node> nodes) {
+            if (!nodes.contains(this)) {
+                nodes.add(this);
+                if (anySegments != null) {
+                    anySegments.addTo(nodes);
+                }
+            }
+        }
+    }
+
+    private static final class Glob {
+
+        private final Pattern pattern;
+        private final Node node = new Node();
+
+        private Glob(String segment) {
+            StringBuilder regex = new StringBuilder();
+            String[] parts = segment.split("\\*", -1);
+            for (int i = 0; i < parts.length; i++) {
+                if (!parts[i].isEmpty()) {
+                    regex.append(Pattern.quote(parts[i]));
+                }
+                if (i < parts.length - 1) {
+                    regex.append("[^\\.]+");
+                }
+            }
+            this.pattern = Pattern.compile(regex.toString());
+        }
+    }
+}
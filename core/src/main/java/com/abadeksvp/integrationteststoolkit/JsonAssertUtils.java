@@ -1,9 +1,12 @@
 package com.abadeksvp.integrationteststoolkit;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.skyscreamer.jsonassert.Customization;
+import org.json.JSONException;
 import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.skyscreamer.jsonassert.JSONCompareResult;
 import org.skyscreamer.jsonassert.comparator.CustomComparator;
 
 /**
@@ -11,8 +14,12 @@ import org.skyscreamer.jsonassert.comparator.CustomComparator;
  */
 public class JsonAssertUtils {
 
+    // the comparators do not keep any state between comparisons, so identical compare rules share a comparator
+    private static final Map<CompareRules, CustomComparator> COMPARATORS = new ConcurrentHashMap<>();
+
     /**
-     * Creates a CustomComparator with specified compare mode and fields to ignore during comparison.
+     * Creates a CustomComparator with specified compare mode and fields to ignore during comparison. The ignored
+     * fields are compiled into {@link IgnoredPaths}, and the comparators of identical compare rules are reused.
      *
      * @param compareMode   The compare mode to use during comparison.
      * @param ignoredFields The fields to ignore during comparison.
@@ -49,10 +56,33 @@ public class JsonAssertUtils {
         }
 
         public CustomComparator build() {
-            Customization[] customizations = Arrays.stream(ignoredFields)
-                    .map(field -> new Customization(field, (o1, o2) -> true))
-                    .toArray(Customization[]::new);
-            return new CustomComparator(compareMode, customizations);
+            List<String> fields = ignoredFields == null ? List.of() : List.of(ignoredFields);
+            return COMPARATORS.computeIfAbsent(new CompareRules(compareMode, fields), IgnoredFieldsComparator::new);
+        }
+    }
+
+    private record CompareRules(JSONCompareMode compareMode, List<String> ignoredFields) {
+    }
+
+    /**
+     * A CustomComparator that skips the ignored fields with a single lookup in the compiled paths instead of matching
+     * the path of every compared value against every ignored field.
+     */
+    private static class IgnoredFieldsComparator extends CustomComparator {
+
+        private final IgnoredPaths ignoredPaths;
+
+        private IgnoredFieldsComparator(CompareRules rules) {
+            super(rules.compareMode());
+            this.ignoredPaths = IgnoredPaths.of(rules.ignoredFields().toArray(String[]::new));
+        }
+
+        @Override
+        public void compareValues(String prefix, Object expectedValue, Object actualValue, JSONCompareResult result)
+                throws JSONException {
+            if (!ignoredPaths.matches(prefix)) {
+                super.compareValues(prefix, expectedValue, actualValue, result);
+            }
         }
     }
 }
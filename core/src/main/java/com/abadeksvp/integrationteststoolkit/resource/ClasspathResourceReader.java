@@ -1,6 +1,9 @@
 package com.abadeksvp.integrationteststoolkit.resource;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -16,32 +19,64 @@ import lombok.SneakyThrows;
 public class ClasspathResourceReader implements ResourceReader {
 
     private final Charset charset;
+    private final ResourceCache cache;
 
     public ClasspathResourceReader() {
-        this.charset = StandardCharsets.UTF_8;
+        this(StandardCharsets.UTF_8);
     }
 
     public ClasspathResourceReader(Charset charset) {
+        this(charset, null);
+    }
+
+    /**
+     * Creates a reader that keeps the read resources and the parsed templates in the given cache. The cache can be
+     * shared between readers, including readers with different charsets.
+     *
+     * @param charset the charset to decode the resources with
+     * @param cache   the cache to keep the read resources in
+     */
+    public ClasspathResourceReader(Charset charset, ResourceCache cache) {
         this.charset = charset;
+        this.cache = cache;
     }
 
-    @SneakyThrows
     @Override
     public String readString(String name) {
-        URL resource = getClass().getResource(name);
-        if (resource == null) {
-            throw new IOException("Resource not found: " + name);
-        }
-        return IOUtils.toString(resource, charset);
+        return cache == null ? load(name) : cache.get(name, charset, this::load);
     }
 
-    @SneakyThrows
     @Override
     public ReadResult read(String name) {
+        return new ReadResult(readString(name));
+    }
+
+    @Override
+    public ResourceTemplate readTemplate(String name) {
+        return cache == null ? ResourceTemplate.parse(load(name)) : cache.getTemplate(name, charset, this::load);
+    }
+
+    @SneakyThrows
+    @Override
+    public InputStream openStream(String name) {
+        return getResource(name).openStream();
+    }
+
+    @Override
+    public Reader openReader(String name) {
+        return new InputStreamReader(openStream(name), charset);
+    }
+
+    @SneakyThrows
+    private String load(String name) {
+        return IOUtils.toString(getResource(name), charset);
+    }
+
+    private URL getResource(String name) throws IOException {
         URL resource = getClass().getResource(name);
         if (resource == null) {
             throw new IOException("Resource not found: " + name);
         }
-        return new ReadResult(IOUtils.toString(resource, charset));
+        return resource;
     }
 }
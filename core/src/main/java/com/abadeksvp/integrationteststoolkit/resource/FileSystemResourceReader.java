@@ -0,0 +1,169 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.SneakyThrows;
+
+/**
+ * A class that implements the {@link ResourceReader} interface and provides methods to read resources from a base
+ * directory on the file system. Files are memory-mapped and decoded straight from the mapping, without copying them
+ * into an intermediate byte array. A mapping is reused by the following reads of the same file until the file is
+ * modified. The reused mappings are bounded by their total size and the least recently used ones are released first;
+ * a released mapping is unmapped once the buffers read from it are no longer referenced.
+ */
+public class FileSystemResourceReader implements ResourceReader {
+
+    private static final long DEFAULT_MAXIMUM_MAPPED_SIZE = 256L * 1024 * 1024;
+
+    private final Path baseDirectory;
+    private final Charset charset;
+    private final long maximumMappedSize;
+    private final LinkedHashMap<Path, Mapping> mappings = new LinkedHashMap<>(16, 0.75f, true);
+    private long mappedSize;
+
+    public FileSystemResourceReader(Path baseDirectory) {
+        this(baseDirectory, StandardCharsets.UTF_8);
+    }
+
+    public FileSystemResourceReader(Path baseDirectory, Charset charset) {
+        this(baseDirectory, charset, DEFAULT_MAXIMUM_MAPPED_SIZE);
+    }
+
+    /**
+     * Creates a reader that reuses the mappings of the files up to the given total size. Files larger than the
+     * maximum size are still read through a mapping, but it is not reused.
+     *
+     * @param baseDirectory     the directory the resource names are resolved against
+     * @param charset           the charset to decode the resources with
+     * @param maximumMappedSize the maximum total size in bytes of the reused mappings
+     */
+    public FileSystemResourceReader(Path baseDirectory, Charset charset, long maximumMappedSize) {
+        if (maximumMappedSize < 0) {
+            throw new IllegalArgumentException("Maximum mapped size must not be negative: " + maximumMappedSize);
+        }
+        this.baseDirectory = baseDirectory.toAbsolutePath().normalize();
+        this.charset = charset;
+        this.maximumMappedSize = maximumMappedSize;
+    }
+
+    @Override
+    public String readString(String name) {
+        return charset.decode(readBuffer(name)).toString();
+    }
+
+    @Override
+    public ReadResult read(String name) {
+        return new ReadResult(readString(name));
+    }
+
+    @Override
+    public InputStream openStream(String name) {
+        return new ByteBufferInputStream(readBuffer(name));
+    }
+
+    @Override
+    public Reader openReader(String name) {
+        return new InputStreamReader(openStream(name), charset);
+    }
+
+    @Override
+    public long transferTo(String name, OutputStream out) throws IOException {
+        ByteBuffer buffer = readBuffer(name);
+        int size = buffer.remaining();
+        // the channel is not closed, since closing it would close the given output stream
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return size;
+    }
+
+    /**
+     * Returns a read-only view of the mapped content of a resource. Every call returns a new view with its own
+     * position and limit, so consuming it does not affect the other reads of the resource.
+     *
+     * @param name the name of the resource relative to the base directory
+     * @return the read-only view of the resource content
+     */
+    @SneakyThrows
+    public ByteBuffer readBuffer(String name) {
+        Path path = resolve(name);
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("Resource not found: " + name);
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Mapping mapping;
+        synchronized (mappings) {
+            mapping = mappings.get(path);
+        }
+        if (mapping == null || !mapping.isUpToDate(attributes)) {
+            // mapped outside the lock so that mapping a large file does not block the reads of the other files
+            mapping = Mapping.of(path, attributes);
+            put(path, mapping);
+        }
+        return mapping.buffer().asReadOnlyBuffer();
+    }
+
+    private void put(Path path, Mapping mapping) {
+        synchronized (mappings) {
+            Mapping previous = mappings.remove(path);
+            if (previous != null) {
+                mappedSize -= previous.size();
+            }
+            if (mapping.size() > maximumMappedSize) {
+                return;
+            }
+            mappings.put(path, mapping);
+            mappedSize += mapping.size();
+            Iterator<Map.Entry<Path, Mapping>> leastRecentlyUsed = mappings.entrySet().iterator();
+            while (mappedSize > maximumMappedSize) {
+                mappedSize -= leastRecentlyUsed.next().getValue().size();
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    private Path resolve(String name) throws IOException {
+        String relativeName = name.startsWith("/") ? name.substring(1) : name;
+        Path path = baseDirectory.resolve(relativeName).normalize();
+        if (!path.startsWith(baseDirectory)) {
+            throw new IOException("Resource is outside of the base directory: " + name);
+        }
+        return path;
+    }
+
+    private record Mapping(MappedByteBuffer buffer, long size, FileTime lastModifiedTime) {
+
+        @SneakyThrows
+        static Mapping of(Path path, BasicFileAttributes attributes) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                // the mapping stays valid after the channel is closed
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new Mapping(buffer, attributes.size(), attributes.lastModifiedTime());
+            }
+        }
+
+        boolean isUpToDate(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The ResourceCache class keeps the decoded content of resources, and the templates parsed from it, keyed by the
+ * resource name and the charset it was decoded with. The cache is bounded by the total length of the cached content
+ * and evicts the least recently used entries first. It is safe to share one cache between readers used concurrently.
+ */
+public class ResourceCache {
+
+    private final long maximumWeight;
+    private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache that holds resources up to the given total length.
+     *
+     * @param maximumWeight the maximum total number of characters of the cached resources
+     */
+    public ResourceCache(long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Returns the cached content of a resource, loading and caching it if it is not present. Resources longer than
+     * the maximum weight are loaded but not cached.
+     *
+     * @param name    the name of the resource
+     * @param charset the charset the resource is decoded with
+     * @param loader  the function that loads the content of the resource by its name
+     * @return the content of the resource
+     */
+    public String get(String name, Charset charset, Function<String, String> loader) {
+        return get(new Key(name, charset, String.class), String.class, () -> loader.apply(name));
+    }
+
+    /**
+     * Returns the cached template of a resource, loading the resource and parsing the template if it is not present.
+     * The template is cached separately from the content of the resource and weighs as much as the content it was
+     * parsed from.
+     *
+     * @param name    the name of the resource
+     * @param charset the charset the resource is decoded with
+     * @param loader  the function that loads the content of the resource by its name
+     * @return the template of the resource
+     */
+    public ResourceTemplate getTemplate(String name, Charset charset, Function<String, String> loader) {
+        return get(new Key(name, charset, ResourceTemplate.class), ResourceTemplate.class,
+                () -> ResourceTemplate.parse(loader.apply(name)));
+    }
+
+    private <T> T get(Key key, Class<T> type, Supplier<T> loader) {
+        synchronized (entries) {
+            Object value = entries.get(key);
+            if (value != null) {
+                hitCount.increment();
+                return type.cast(value);
+            }
+        }
+        missCount.increment();
+        // loaded outside the lock so that slow reads do not block the other resources
+        T value = loader.get();
+        if (weigh(value) <= maximumWeight) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes all the cached resources.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the cache statistics
+     */
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size(), weight);
+        }
+    }
+
+    private void put(Key key, Object value) {
+        synchronized (entries) {
+            Object previous = entries.put(key, value);
+            if (previous != null) {
+                weight -= weigh(previous);
+            }
+            weight += weigh(value);
+            Iterator<Map.Entry<Key, Object>> leastRecentlyUsed = entries.entrySet().iterator();
+            while (weight > maximumWeight) {
+                weight -= weigh(leastRecentlyUsed.next().getValue());
+                leastRecentlyUsed.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private static long weigh(Object value) {
+        return value instanceof ResourceTemplate template ? template.length() : ((String) value).length();
+    }
+
+    private record Key(String name, Charset charset, Class<?> type) {
+    }
+
+    /**
+     * The statistics of a ResourceCache.
+     *
+     * @param hitCount      the number of reads served from the cache
+     * @param missCount     the number of reads that loaded the resource
+     * @param evictionCount the number of entries evicted to stay within the maximum weight
+     * @param size          the number of cached resources and templates
+     * @param weight        the total number of characters of the cached resources and templates
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, long size, long weight) {
+    }
+}
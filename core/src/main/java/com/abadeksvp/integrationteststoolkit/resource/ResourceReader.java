@@ -1,5 +1,12 @@
 package com.abadeksvp.integrationteststoolkit.resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 
 /**
  * The ResourceReader interface provides methods to read resources from various sources.
@@ -22,4 +29,54 @@ public interface ResourceReader {
      * @return a ReadResult object that contains the content of the resource
      */
     public ReadResult read(String name);
+
+    /**
+     * Reads the content of a resource and parses it into a template with placeholders in the form of
+     * <code>${name}</code>.
+     *
+     * @param name the name of the resource to read
+     * @return the parsed template of the resource content
+     */
+    public default ResourceTemplate readTemplate(String name) {
+        return ResourceTemplate.parse(readString(name));
+    }
+
+    /**
+     * Opens the content of a resource as a stream of bytes. The caller is responsible for closing the stream. By
+     * default the content is read as a string and encoded in UTF-8; the readers provided by the toolkit override it
+     * to stream the original bytes without reading the whole content into memory.
+     *
+     * @param name the name of the resource to read
+     * @return the stream of the resource content
+     */
+    public default InputStream openStream(String name) {
+        return new ByteArrayInputStream(readString(name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens the content of a resource as a stream of characters. The caller is responsible for closing the reader.
+     * By default the content is read as a string; the readers provided by the toolkit override it to decode the
+     * content with the charset of the reader without reading the whole content into memory.
+     *
+     * @param name the name of the resource to read
+     * @return the reader of the resource content
+     */
+    public default Reader openReader(String name) {
+        return new StringReader(readString(name));
+    }
+
+    /**
+     * Writes the content of a resource to the given output stream, without reading the whole content into memory.
+     * The output stream is not closed.
+     *
+     * @param name the name of the resource to read
+     * @param out  the output stream to write the content to
+     * @return the number of bytes written
+     * @throws IOException if reading the resource or writing to the stream fails
+     */
+    public default long transferTo(String name, OutputStream out) throws IOException {
+        try (InputStream in = openStream(name)) {
+            return in.transferTo(out);
+        }
+    }
 }
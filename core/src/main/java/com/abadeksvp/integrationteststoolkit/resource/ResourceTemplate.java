@@ -0,0 +1,102 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ResourceTemplate class represents the content of a resource with placeholders in the form of
+ * <code>${name}</code>. The content is split into literal parts and placeholders once, when the template is parsed,
+ * and every rendering substitutes all the placeholders in a single pass without scanning the text again.
+ */
+public class ResourceTemplate {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final String PLACEHOLDER_SUFFIX = "}";
+
+    // the text between the placeholders, literals[i] precedes placeholders[i]
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+    private final int textLength;
+
+    private ResourceTemplate(String[] literals, String[] placeholders, int textLength) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.textLength = textLength;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Parses the given text into a template.
+     *
+     * @param text the text with placeholders in the form of <code>${name}</code>
+     * @return the parsed template
+     */
+    public static ResourceTemplate parse(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = text.indexOf(PLACEHOLDER_PREFIX, position)) >= 0) {
+            int end = text.indexOf(PLACEHOLDER_SUFFIX, start + PLACEHOLDER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            literals.add(text.substring(position, start));
+            placeholders.add(text.substring(start + PLACEHOLDER_PREFIX.length(), end));
+            position = end + PLACEHOLDER_SUFFIX.length();
+        }
+        literals.add(text.substring(position));
+        return new ResourceTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new),
+                text.length());
+    }
+
+    /**
+     * Renders the template, replacing every placeholder with the string value of the value of the same name.
+     * Placeholders without a value are left as they are.
+     *
+     * @param values the values of the placeholders by their names
+     * @return the rendered text
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder result = new StringBuilder(literalsLength + placeholders.length * 16);
+        result.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            Object value = values.get(placeholders[i]);
+            if (value != null) {
+                result.append(value);
+            } else {
+                result.append(PLACEHOLDER_PREFIX).append(placeholders[i]).append(PLACEHOLDER_SUFFIX);
+            }
+            result.append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Renders the template and returns the result as a ReadResult object, so that further replacements can be
+     * applied to it.
+     *
+     * @param values the values of the placeholders by their names
+     * @return the ReadResult object with the rendered text
+     * @see #render(Map)
+     */
+    public ReadResult renderResult(Map<String, ?> values) {
+        return new ReadResult(render(values));
+    }
+
+    /**
+     * Returns the length of the text the template was parsed from, which is the weight of the template in a
+     * {@link ResourceCache}.
+     *
+     * @return the length of the parsed text
+     */
+    int length() {
+        return textLength;
+    }
+}
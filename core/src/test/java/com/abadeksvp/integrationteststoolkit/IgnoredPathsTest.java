@@ -0,0 +1,97 @@
+package com.abadeksvp.integrationteststoolkit;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.skyscreamer.jsonassert.Customization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IgnoredPathsTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "id",
+            "items[0].id",
+            "**.id",
+            "a.**.id",
+            "items[*].id",
+            "items[*]",
+            "a.*",
+            "**.items[*].name",
+            "a.**.b.**.c",
+            "*.id",
+            "a*b",
+            "x.**id",
+            "items[1*].id"
+    );
+
+    private static final List<String> PATHS = List.of(
+            "id",
+            "ids",
+            "uid",
+            "a.id",
+            "a.b.id",
+            "a.b.c.id",
+            "b.a.id",
+            "items[0].id",
+            "items[1].id",
+            "items[10].id",
+            "items[0].ids",
+            "items[0]",
+            "items[0].nested.id",
+            "items",
+            "a",
+            "a.b",
+            "a.b.c",
+            "a.x.b.y.c",
+            "a.b.c.d",
+            "order.items[0].name",
+            "items[2].name",
+            "ab",
+            "axxb",
+            "x.id",
+            "x.aid",
+            "x.y.id"
+    );
+
+    static Stream<Arguments> patternsAndPaths() {
+        return PATTERNS.stream()
+                .flatMap(pattern -> PATHS.stream().map(path -> Arguments.of(pattern, path)));
+    }
+
+    @ParameterizedTest(name = "{0} and {1}")
+    @MethodSource("patternsAndPaths")
+    @DisplayName("Compiled paths match the same paths as JSONAssert customizations")
+    void compiledPathsMatchAsCustomizationsTest(String pattern, String path) {
+        boolean expected = new Customization(pattern, (actual, expectedValue) -> true).appliesToPath(path);
+
+        assertThat(IgnoredPaths.of(pattern).matches(path)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Path is ignored if any of the compiled paths matches it")
+    void anyPathMatchesTest() {
+        IgnoredPaths ignoredPaths = IgnoredPaths.of(PATTERNS.toArray(String[]::new));
+
+        for (String path : PATHS) {
+            boolean expected = PATTERNS.stream()
+                    .anyMatch(pattern -> new Customization(pattern, (actual, expectedValue) -> true)
+                            .appliesToPath(path));
+            assertThat(ignoredPaths.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Identical sets of paths are compiled once and no paths match nothing")
+    void compiledPathsAreSharedTest() {
+        assertThat(IgnoredPaths.of("**.id", "name")).isSameAs(IgnoredPaths.of("**.id", "name"));
+        assertThat(IgnoredPaths.of().isEmpty()).isTrue();
+        assertThat(IgnoredPaths.of((String[]) null).matches("id")).isFalse();
+        assertThat(IgnoredPaths.of("id").isEmpty()).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    @DisplayName("Single bytes are read as unsigned values until the end of the buffer")
+    void singleBytesAreReadTest() {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{1, (byte) 0xFF}));
+
+        assertThat(stream.read()).isEqualTo(1);
+        assertThat(stream.read()).isEqualTo(0xFF);
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Bulk reads return at most the remaining bytes and then the end of the stream")
+    void bulkReadsAreLimitedByRemainingBytesTest() {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        byte[] bytes = new byte[8];
+
+        assertThat(stream.read(bytes, 1, 3)).isEqualTo(3);
+        assertThat(stream.read(bytes, 4, 4)).isEqualTo(2);
+        assertThat(stream.read(bytes, 0, 8)).isEqualTo(-1);
+        assertThat(stream.read(bytes, 0, 0)).isZero();
+        assertThat(bytes).containsExactly(0, 1, 2, 3, 4, 5, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Only the remaining content of the buffer is read")
+    void remainingContentIsReadTest() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+        buffer.position(1).limit(4);
+
+        assertThat(new ByteBufferInputStream(buffer).readAllBytes()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Skip and available are limited by the remaining bytes and are zero at the end")
+    void skipAndAvailableAtEndTest() {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+
+        assertThat(stream.available()).isEqualTo(3);
+        assertThat(stream.skip(-1)).isZero();
+        assertThat(stream.skip(2)).isEqualTo(2);
+        assertThat(stream.available()).isEqualTo(1);
+        assertThat(stream.skip(10)).isEqualTo(1);
+        assertThat(stream.available()).isZero();
+        assertThat(stream.skip(1)).isZero();
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+}
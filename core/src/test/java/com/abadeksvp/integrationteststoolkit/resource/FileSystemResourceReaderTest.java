@@ -0,0 +1,159 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileSystemResourceReaderTest {
+
+    @TempDir
+    private Path baseDirectory;
+
+    @Test
+    @DisplayName("Resource is read as a string, a stream, a reader and transferred to an output stream")
+    void resourceIsReadTest() throws IOException {
+        Files.writeString(baseDirectory.resolve("resource.txt"), "r\u00e9sum\u00e9");
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+
+        assertThat(reader.readString("/resource.txt")).isEqualTo("r\u00e9sum\u00e9");
+        assertThat(reader.read("resource.txt").get()).isEqualTo("r\u00e9sum\u00e9");
+        try (var stream = reader.openStream("resource.txt")) {
+            assertThat(stream.readAllBytes()).isEqualTo("r\u00e9sum\u00e9".getBytes(StandardCharsets.UTF_8));
+        }
+        try (var resourceReader = reader.openReader("resource.txt")) {
+            assertThat(resourceReader.read()).isEqualTo('r');
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(reader.transferTo("resource.txt", out)).isEqualTo(8);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("r\u00e9sum\u00e9");
+    }
+
+    @Test
+    @DisplayName("Mapping is reused while the size and the modification time of the file are unchanged")
+    void mappingIsReusedTest() throws IOException {
+        Path file = write("resource.txt", "first");
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+        assertThat(reader.readString("resource.txt")).isEqualTo("first");
+
+        replaceKeepingAttributes(file, "other");
+
+        assertThat(reader.readString("resource.txt")).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("File is mapped again when its size changes")
+    void fileIsRemappedWhenSizeChangesTest() throws IOException {
+        Path file = write("resource.txt", "first");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+        assertThat(reader.readString("resource.txt")).isEqualTo("first");
+
+        replace(file, "changed");
+        Files.setLastModifiedTime(file, lastModifiedTime);
+
+        assertThat(reader.readString("resource.txt")).isEqualTo("changed");
+    }
+
+    @Test
+    @DisplayName("File is mapped again when its modification time changes")
+    void fileIsRemappedWhenModificationTimeChangesTest() throws IOException {
+        Path file = write("resource.txt", "first");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+        assertThat(reader.readString("resource.txt")).isEqualTo("first");
+
+        replace(file, "other");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+
+        assertThat(reader.readString("resource.txt")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Least recently used mappings are released to stay within the maximum mapped size")
+    void mappingsAreBoundedBySizeTest() throws IOException {
+        Path first = write("first.txt", "first");
+        write("second.txt", "second");
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory, StandardCharsets.UTF_8, 10);
+        reader.readString("first.txt");
+        reader.readString("second.txt");
+
+        replaceKeepingAttributes(first, "other");
+
+        assertThat(reader.readString("first.txt")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Files larger than the maximum mapped size are read without reusing their mapping")
+    void oversizedFileIsNotReusedTest() throws IOException {
+        Path file = write("resource.txt", "first");
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory, StandardCharsets.UTF_8, 4);
+        assertThat(reader.readString("resource.txt")).isEqualTo("first");
+
+        replaceKeepingAttributes(file, "other");
+
+        assertThat(reader.readString("resource.txt")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Every buffer of a resource has its own position")
+    void buffersAreIndependentTest() throws IOException {
+        write("resource.txt", "content");
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+
+        reader.readBuffer("resource.txt").position(7);
+
+        assertThat(reader.readBuffer("resource.txt").remaining()).isEqualTo(7);
+        assertThat(reader.readBuffer("resource.txt").isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Resources outside of the base directory are rejected")
+    void resourceOutsideOfBaseDirectoryIsRejectedTest() throws IOException {
+        Files.writeString(baseDirectory.resolveSibling(baseDirectory.getFileName() + ".txt"), "secret");
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+
+        assertThatThrownBy(() -> reader.readString("../" + baseDirectory.getFileName() + ".txt"))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("Resource is outside of the base directory");
+        assertThatThrownBy(() -> reader.readString("nested/../../secret.txt"))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("Resource is outside of the base directory");
+    }
+
+    @Test
+    @DisplayName("Missing resource is reported")
+    void missingResourceIsReportedTest() {
+        FileSystemResourceReader reader = new FileSystemResourceReader(baseDirectory);
+
+        assertThatThrownBy(() -> reader.readString("missing.txt"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Resource not found: missing.txt");
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(baseDirectory.resolve(name), content);
+    }
+
+    // the file is replaced instead of overwritten, since an existing mapping would show the overwritten content
+    private void replace(Path file, String content) throws IOException {
+        Path replacement = Files.writeString(file.resolveSibling(file.getFileName() + ".new"), content);
+        Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void replaceKeepingAttributes(Path file, String content) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        replace(file, content);
+        Files.setLastModifiedTime(file, lastModifiedTime);
+    }
+}
@@ -0,0 +1,116 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceCacheTest {
+
+    private final List<String> loadedNames = new ArrayList<>();
+    private final Function<String, String> loader = name -> {
+        loadedNames.add(name);
+        return name.repeat(2);
+    };
+
+    @Test
+    @DisplayName("Cached resource is loaded once and counted as hits")
+    void cachedResourceIsLoadedOnceTest() {
+        ResourceCache cache = new ResourceCache(100);
+
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, loader)).isEqualTo("abcabc");
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, loader)).isEqualTo("abcabc");
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, loader)).isEqualTo("abcabc");
+
+        assertThat(loadedNames).containsExactly("abc");
+        assertThat(cache.stats()).isEqualTo(new ResourceCache.Stats(2, 1, 0, 1, 6));
+    }
+
+    @Test
+    @DisplayName("Least recently used resources are evicted to stay within the maximum weight")
+    void leastRecentlyUsedResourcesAreEvictedTest() {
+        ResourceCache cache = new ResourceCache(10);
+
+        cache.get("aa", StandardCharsets.UTF_8, loader);
+        cache.get("bb", StandardCharsets.UTF_8, loader);
+        // touches "aa", so "bb" becomes the least recently used resource
+        cache.get("aa", StandardCharsets.UTF_8, loader);
+        cache.get("cc", StandardCharsets.UTF_8, loader);
+        cache.get("aa", StandardCharsets.UTF_8, loader);
+        cache.get("bb", StandardCharsets.UTF_8, loader);
+
+        assertThat(loadedNames).containsExactly("aa", "bb", "cc", "bb");
+        ResourceCache.Stats stats = cache.stats();
+        assertThat(stats.evictionCount()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.weight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Resources longer than the maximum weight are loaded but not cached")
+    void oversizedResourceIsNotCachedTest() {
+        ResourceCache cache = new ResourceCache(5);
+
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, loader)).isEqualTo("abcabc");
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, loader)).isEqualTo("abcabc");
+
+        assertThat(loadedNames).containsExactly("abc", "abc");
+        assertThat(cache.stats()).isEqualTo(new ResourceCache.Stats(0, 2, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("The same resource decoded with different charsets is cached separately")
+    void resourcesAreKeyedByCharsetTest() {
+        ResourceCache cache = new ResourceCache(100);
+
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, name -> "utf-8")).isEqualTo("utf-8");
+        assertThat(cache.get("abc", StandardCharsets.ISO_8859_1, name -> "latin-1")).isEqualTo("latin-1");
+        assertThat(cache.get("abc", StandardCharsets.UTF_8, loader)).isEqualTo("utf-8");
+        assertThat(cache.get("abc", StandardCharsets.ISO_8859_1, loader)).isEqualTo("latin-1");
+
+        assertThat(loadedNames).isEmpty();
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Template is parsed once and cached separately from the content of the resource")
+    void templatesAreCachedSeparatelyTest() {
+        ResourceCache cache = new ResourceCache(100);
+
+        ResourceTemplate template = cache.getTemplate("${a}", StandardCharsets.UTF_8, loader);
+
+        assertThat(cache.getTemplate("${a}", StandardCharsets.UTF_8, loader)).isSameAs(template);
+        assertThat(cache.get("${a}", StandardCharsets.UTF_8, loader)).isEqualTo("${a}${a}");
+        assertThat(template.render(Map.of("a", "b"))).isEqualTo("bb");
+        assertThat(loadedNames).containsExactly("${a}", "${a}");
+        assertThat(cache.stats()).isEqualTo(new ResourceCache.Stats(1, 2, 0, 2, 16));
+    }
+
+    @Test
+    @DisplayName("Cleared cache loads the resources again and keeps the statistics")
+    void clearedCacheLoadsResourcesAgainTest() {
+        ResourceCache cache = new ResourceCache(100);
+        cache.get("abc", StandardCharsets.UTF_8, loader);
+
+        cache.clear();
+        cache.get("abc", StandardCharsets.UTF_8, loader);
+
+        assertThat(loadedNames).containsExactly("abc", "abc");
+        assertThat(cache.stats()).isEqualTo(new ResourceCache.Stats(0, 2, 0, 1, 6));
+    }
+
+    @Test
+    @DisplayName("Cache with a non-positive maximum weight is rejected")
+    void nonPositiveMaximumWeightIsRejectedTest() {
+        assertThatThrownBy(() -> new ResourceCache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum weight must be positive: 0");
+    }
+}
@@ -0,0 +1,57 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceReaderTest {
+
+    // implements only the required methods, so the default ones are tested
+    private final ResourceReader reader = new ResourceReader() {
+
+        @Override
+        public String readString(String name) {
+            return "content of " + name + " \u00e9";
+        }
+
+        @Override
+        public ReadResult read(String name) {
+            return new ReadResult(readString(name));
+        }
+    };
+
+    @Test
+    @DisplayName("Default stream returns the content encoded in UTF-8")
+    void defaultStreamTest() throws IOException {
+        try (InputStream stream = reader.openStream("name")) {
+            assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("content of name \u00e9");
+        }
+    }
+
+    @Test
+    @DisplayName("Default reader returns the content as a string")
+    void defaultReaderTest() throws IOException {
+        StringWriter content = new StringWriter();
+        try (Reader resourceReader = reader.openReader("name")) {
+            resourceReader.transferTo(content);
+        }
+        assertThat(content).hasToString("content of name \u00e9");
+    }
+
+    @Test
+    @DisplayName("Default transfer writes the content of the stream")
+    void defaultTransferTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(reader.transferTo("name", out)).isEqualTo(18);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("content of name \u00e9");
+    }
+}
@@ -0,0 +1,74 @@
+package com.abadeksvp.integrationteststoolkit.resource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceTemplateTest {
+
+    @Test
+    @DisplayName("All placeholders are replaced with their values")
+    void placeholdersAreReplacedTest() {
+        ResourceTemplate template = ResourceTemplate.parse("{\"name\": \"${name}\", \"id\": ${id}, \"copy\": \"${name}\"}");
+
+        assertThat(template.render(Map.of("name", "John", "id", 42)))
+                .isEqualTo("{\"name\": \"John\", \"id\": 42, \"copy\": \"John\"}");
+    }
+
+    @Test
+    @DisplayName("Placeholders at the edges of the text and next to each other are replaced")
+    void adjacentPlaceholdersAreReplacedTest() {
+        ResourceTemplate template = ResourceTemplate.parse("${first}${second}-${first}");
+
+        assertThat(template.render(Map.of("first", "a", "second", "b"))).isEqualTo("ab-a");
+    }
+
+    @Test
+    @DisplayName("Placeholders without a value are left as they are")
+    void missingValuesAreLeftTest() {
+        ResourceTemplate template = ResourceTemplate.parse("Hello, ${name} from ${city}!");
+        Map<String, Object> values = new HashMap<>();
+        values.put("city", null);
+
+        assertThat(template.render(values)).isEqualTo("Hello, ${name} from ${city}!");
+        assertThat(template.render(Map.of("city", "London"))).isEqualTo("Hello, ${name} from London!");
+    }
+
+    @Test
+    @DisplayName("Text without complete placeholders is rendered unchanged")
+    void textWithoutPlaceholdersIsUnchangedTest() {
+        assertThat(ResourceTemplate.parse("").render(Map.of())).isEmpty();
+        assertThat(ResourceTemplate.parse("plain text").render(Map.of("text", "value"))).isEqualTo("plain text");
+        assertThat(ResourceTemplate.parse("cost: $5, ${unclosed").render(Map.of("unclosed", "value")))
+                .isEqualTo("cost: $5, ${unclosed");
+        assertThat(ResourceTemplate.parse("${name} and ${unclosed").render(Map.of("name", "value")))
+                .isEqualTo("value and ${unclosed");
+    }
+
+    @Test
+    @DisplayName("Values are not scanned for placeholders again")
+    void valuesAreNotRenderedAgainTest() {
+        ResourceTemplate template = ResourceTemplate.parse("${first} ${second}");
+
+        assertThat(template.render(Map.of("first", "${second}", "second", "value"))).isEqualTo("${second} value");
+    }
+
+    @Test
+    @DisplayName("Rendered result accepts further replacements")
+    void renderedResultAcceptsReplacementsTest() {
+        ResourceTemplate template = ResourceTemplate.parse("${greeting}, name!");
+
+        assertThat(template.renderResult(Map.of("greeting", "Hello")).andReplace("name", "John").get())
+                .isEqualTo("Hello, John!");
+    }
+
+    @Test
+    @DisplayName("Template weighs as much as the text it was parsed from")
+    void templateLengthTest() {
+        assertThat(ResourceTemplate.parse("Hello, ${name}!").length()).isEqualTo(15);
+    }
+}
@@ -0,0 +1,173 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestListener;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The BoundedRequestJournal class records the requests received by an in-process WireMock server with a bounded
+ * memory footprint, as a replacement for the request journal of the server:
+ * <ul>
+ *     <li>only the given number of the most recent requests is kept, the oldest requests are evicted first;</li>
+ *     <li>the bodies larger than the given threshold are written to temporary files and read back only when a body
+ *     verifier asks for them. The file of an evicted request is deleted once the request is no longer referenced,
+ *     so the verifications still holding a snapshot of the requests read the same bodies as before the eviction or
+ *     reset. The remaining files are deleted when the journal is closed.</li>
+ * </ul>
+ * The requests are verified with a {@link WireMockVerifier} created for the journal, and the results are the same as
+ * for the journal of the server. The journal of the server should be disabled or limited with
+ * <code>WireMockConfiguration.disableRequestJournal()</code> or <code>maxRequestJournalEntries(...)</code>, otherwise
+ * it still keeps all the bodies on the heap. Since the server does not report resets of its journal,
+ * {@link #reset()} must be called together with <code>WireMock.resetAllRequests()</code>.
+ */
+@Slf4j
+public class BoundedRequestJournal implements RequestListener, AutoCloseable {
+
+    // deletes the spilled bodies of the requests that are neither recorded nor referenced by any snapshot
+    private static final Cleaner SPILLED_BODY_CLEANER = Cleaner.create();
+
+    private final int maxEntries;
+    private final int spillThreshold;
+    private final Deque<LoggedRequest> entries = new ArrayDeque<>();
+    // wakes up the verifications waiting for requests once the requests are recorded
+    private final RequestJournalListener journalListener = new RequestJournalListener();
+    private Path spillDirectory;
+
+    /**
+     * Creates a journal with the given limits. The journal must be added to a server as a request listener, see
+     * {@link #attachTo(WireMockServer, int, int)}.
+     *
+     * @param maxEntries     the maximum number of recorded requests
+     * @param spillThreshold the size in bytes above which the request bodies are written to temporary files
+     */
+    public BoundedRequestJournal(int maxEntries, int spillThreshold) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum number of entries must be positive: " + maxEntries);
+        }
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException("Spill threshold must not be negative: " + spillThreshold);
+        }
+        this.maxEntries = maxEntries;
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Creates a journal with the given limits and adds it to the given server.
+     *
+     * @param server         the in-process WireMock server to record the requests of
+     * @param maxEntries     the maximum number of recorded requests
+     * @param spillThreshold the size in bytes above which the request bodies are written to temporary files
+     * @return the journal recording the requests of the server
+     */
+    public static BoundedRequestJournal attachTo(WireMockServer server, int maxEntries, int spillThreshold) {
+        BoundedRequestJournal journal = new BoundedRequestJournal(maxEntries, spillThreshold);
+        server.addMockServiceRequestListener(journal);
+        return journal;
+    }
+
+    @Override
+    public void requestReceived(Request request, Response response) {
+        LoggedRequest loggedRequest = log(request);
+        synchronized (entries) {
+            entries.addLast(loggedRequest);
+            while (entries.size() > maxEntries) {
+                entries.removeFirst();
+            }
+        }
+        journalListener.requestReceived(request, response);
+    }
+
+    /**
+     * Returns the recorded requests, the oldest first, as the journal of the server does.
+     *
+     * @return the snapshot of the recorded requests
+     */
+    public List<LoggedRequest> getRequests() {
+        synchronized (entries) {
+            return List.copyOf(entries);
+        }
+    }
+
+    /**
+     * Removes all the recorded requests. Their spilled bodies are deleted once the requests are no longer referenced
+     * by any snapshot.
+     */
+    public void reset() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes all the recorded requests and deletes the directory of the spilled bodies with all the bodies, so the
+     * bodies of the snapshots taken before can no longer be read.
+     */
+    @SneakyThrows
+    @Override
+    public void close() {
+        synchronized (entries) {
+            reset();
+            if (spillDirectory != null) {
+                try (Stream<Path> bodyFiles = Files.list(spillDirectory)) {
+                    bodyFiles.forEach(BoundedRequestJournal::delete);
+                }
+                Files.deleteIfExists(spillDirectory);
+                spillDirectory = null;
+            }
+        }
+    }
+
+    RequestJournalListener journalListener() {
+        return journalListener;
+    }
+
+    private LoggedRequest log(Request request) {
+        byte[] body = request.getBody();
+        if (body == null || body.length <= spillThreshold) {
+            return LoggedRequest.createFrom(request);
+        }
+        Path bodyFile = spill(body);
+        SpilledLoggedRequest spilledRequest = new SpilledLoggedRequest(request.getUrl(), request.getAbsoluteUrl(),
+                request.getMethod(), request.getClientIp(), request.getHeaders(), request.getCookies(),
+                request.isBrowserProxyRequest(), new Date(), request.isMultipart() ? request.getParts() : null,
+                request.getProtocol(), bodyFile);
+        // the action must not reference the request, otherwise the request never becomes unreachable
+        SPILLED_BODY_CLEANER.register(spilledRequest, () -> delete(bodyFile));
+        return spilledRequest;
+    }
+
+    @SneakyThrows
+    private Path spill(byte[] body) {
+        Path directory;
+        synchronized (entries) {
+            if (spillDirectory == null) {
+                spillDirectory = Files.createTempDirectory("wiremock-journal");
+            }
+            directory = spillDirectory;
+        }
+        return Files.write(Files.createTempFile(directory, "body", ".bin"), body);
+    }
+
+    private static void delete(Path bodyFile) {
+        try {
+            Files.deleteIfExists(bodyFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete spilled request body {}", bodyFile, e);
+        }
+    }
+}
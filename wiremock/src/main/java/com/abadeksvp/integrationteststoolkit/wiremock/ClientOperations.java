@@ -0,0 +1,48 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.util.List;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.tomakehurst.wiremock.verification.NearMiss;
+
+/**
+ * The operations of a specific WireMock client instance.
+ */
+final class ClientOperations implements WireMockOperations {
+
+    private final WireMock wireMock;
+
+    ClientOperations(WireMock wireMock) {
+        this.wireMock = wireMock;
+    }
+
+    @Override
+    public List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder) {
+        return wireMock.find(requestPatternBuilder);
+    }
+
+    @Override
+    public List<NearMiss> findNearMissesFor(RequestPatternBuilder requestPatternBuilder) {
+        return wireMock.findAllNearMissesFor(requestPatternBuilder);
+    }
+
+    @Override
+    public void verify(RequestPatternBuilder requestPatternBuilder) {
+        wireMock.verifyThat(requestPatternBuilder);
+    }
+
+    @Override
+    public StubMapping stubFor(MappingBuilder mappingBuilder) {
+        return wireMock.register(mappingBuilder);
+    }
+
+    @Override
+    public void importStubs(StubImportBuilder stubImport) {
+        wireMock.importStubMappings(stubImport);
+    }
+}
@@ -0,0 +1,47 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.util.List;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.tomakehurst.wiremock.verification.NearMiss;
+
+/**
+ * The operations of the default static WireMock client.
+ */
+final class DefaultClientOperations implements WireMockOperations {
+
+    static final DefaultClientOperations INSTANCE = new DefaultClientOperations();
+
+    private DefaultClientOperations() {
+    }
+
+    @Override
+    public List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder) {
+        return WireMock.findAll(requestPatternBuilder);
+    }
+
+    @Override
+    public List<NearMiss> findNearMissesFor(RequestPatternBuilder requestPatternBuilder) {
+        return WireMock.findNearMissesFor(requestPatternBuilder);
+    }
+
+    @Override
+    public void verify(RequestPatternBuilder requestPatternBuilder) {
+        WireMock.verify(requestPatternBuilder);
+    }
+
+    @Override
+    public StubMapping stubFor(MappingBuilder mappingBuilder) {
+        return WireMock.stubFor(mappingBuilder);
+    }
+
+    @Override
+    public void importStubs(StubImportBuilder stubImport) {
+        WireMock.importStubs(stubImport);
+    }
+}
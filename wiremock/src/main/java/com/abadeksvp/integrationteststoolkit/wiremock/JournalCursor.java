@@ -0,0 +1,73 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.util.Date;
+import java.util.List;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.CountingRequestBodyVerifier;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+/**
+ * The JournalCursor class keeps the position in the request journal and the running number of matched requests
+ * between the attempts of a waiting verification, so that every attempt only matches the requests logged since the
+ * previous one. The requests logged at the latest seen date are matched again on the next attempt, since more
+ * requests can still be logged within the same millisecond.
+ */
+class JournalCursor {
+
+    private final CountingRequestBodyVerifier bodyVerifier;
+
+    private Date position;
+    private int requestsBeforePosition;
+    private int matchesBeforePosition;
+
+    JournalCursor(CountingRequestBodyVerifier bodyVerifier) {
+        this.bodyVerifier = bodyVerifier;
+    }
+
+    /**
+     * Counts the requests whose body matches the verifier, matching only the requests that were not matched by the
+     * previous calls.
+     *
+     * @param requests the current list of logged requests
+     * @return the number of matched requests in the whole list
+     */
+    int countMatches(List<LoggedRequest> requests) {
+        if (position != null && countLoggedBefore(requests, position) != requestsBeforePosition) {
+            // the journal has been reset since the previous attempt
+            position = null;
+            requestsBeforePosition = 0;
+            matchesBeforePosition = 0;
+        }
+        List<LoggedRequest> newRequests = position == null ? requests : requestsLoggedSince(requests, position);
+        Date newPosition = newRequests.stream()
+                .map(LoggedRequest::getLoggedDate)
+                .max(Date::compareTo)
+                .orElse(position);
+        if (newPosition == null) {
+            return 0;
+        }
+        List<LoggedRequest> passedRequests = requestsLoggedBefore(newRequests, newPosition);
+        requestsBeforePosition += passedRequests.size();
+        matchesBeforePosition += bodyVerifier.countMatches(passedRequests);
+        position = newPosition;
+        return matchesBeforePosition + bodyVerifier.countMatches(requestsLoggedSince(newRequests, newPosition));
+    }
+
+    private static long countLoggedBefore(List<LoggedRequest> requests, Date date) {
+        return requests.stream()
+                .filter(request -> request.getLoggedDate().before(date))
+                .count();
+    }
+
+    private static List<LoggedRequest> requestsLoggedBefore(List<LoggedRequest> requests, Date date) {
+        return requests.stream()
+                .filter(request -> request.getLoggedDate().before(date))
+                .toList();
+    }
+
+    private static List<LoggedRequest> requestsLoggedSince(List<LoggedRequest> requests, Date date) {
+        return requests.stream()
+                .filter(request -> !request.getLoggedDate().before(date))
+                .toList();
+    }
+}
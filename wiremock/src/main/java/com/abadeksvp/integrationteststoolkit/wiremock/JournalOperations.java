@@ -0,0 +1,60 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.util.List;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.tomakehurst.wiremock.verification.NearMiss;
+
+/**
+ * The operations that query the requests recorded by a BoundedRequestJournal and create the stubs on the server.
+ */
+final class JournalOperations implements WireMockOperations {
+
+    // the number of near misses returned by the WireMock server
+    private static final int NEAR_MISS_COUNT = 3;
+
+    private final BoundedRequestJournal journal;
+    private final WireMockOperations server;
+
+    JournalOperations(BoundedRequestJournal journal, WireMockOperations server) {
+        this.journal = journal;
+        this.server = server;
+    }
+
+    @Override
+    public List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder) {
+        RequestPattern requestPattern = requestPatternBuilder.build();
+        return journal.getRequests().stream()
+                .filter(request -> requestPattern.match(request).isExactMatch())
+                .toList();
+    }
+
+    @Override
+    public List<NearMiss> findNearMissesFor(RequestPatternBuilder requestPatternBuilder) {
+        return NearMisses.rank(requestPatternBuilder.build(), journal.getRequests(), NEAR_MISS_COUNT);
+    }
+
+    @Override
+    public void verify(RequestPatternBuilder requestPatternBuilder) {
+        RequestPattern requestPattern = requestPatternBuilder.build();
+        List<LoggedRequest> requests = journal.getRequests();
+        if (requests.stream().noneMatch(request -> requestPattern.match(request).isExactMatch())) {
+            throw NearMisses.verificationException(requestPattern, requests);
+        }
+    }
+
+    @Override
+    public StubMapping stubFor(MappingBuilder mappingBuilder) {
+        return server.stubFor(mappingBuilder);
+    }
+
+    @Override
+    public void importStubs(StubImportBuilder stubImport) {
+        server.importStubs(stubImport);
+    }
+}
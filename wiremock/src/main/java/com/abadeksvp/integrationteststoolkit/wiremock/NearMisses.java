@@ -0,0 +1,77 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.github.tomakehurst.wiremock.client.VerificationException;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.tomakehurst.wiremock.verification.NearMiss;
+import com.github.tomakehurst.wiremock.verification.diff.Diff;
+
+/**
+ * The NearMisses class ranks already fetched requests by their distance to a request pattern, the same way the
+ * WireMock server ranks the near misses of its request journal, but without another call to the server.
+ */
+public final class NearMisses {
+
+    private NearMisses() {
+    }
+
+    /**
+     * Returns the requests closest to the given pattern, ordered by the distance. Of requests with the same distance
+     * the most recent one comes first, as in the near misses returned by the WireMock server. Only the given number of
+     * candidates is kept while ranking, so the cost does not depend on sorting all the requests.
+     *
+     * @param requestPattern the pattern the requests are compared with
+     * @param requests       the requests in the order of the request journal, the oldest first
+     * @param limit          the maximum number of near misses to return
+     * @return the near misses, the closest first
+     */
+    public static List<NearMiss> rank(RequestPattern requestPattern, List<LoggedRequest> requests, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Comparator<Candidate> closestFirst = Comparator.comparingDouble(Candidate::distance)
+                .thenComparing(Comparator.comparingInt(Candidate::index).reversed());
+        // the head of the queue is the farthest of the kept candidates
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(limit + 1, closestFirst.reversed());
+        for (int i = 0; i < requests.size(); i++) {
+            LoggedRequest request = requests.get(i);
+            MatchResult matchResult = requestPattern.match(request);
+            candidates.add(new Candidate(i, request, matchResult, matchResult.getDistance()));
+            if (candidates.size() > limit) {
+                candidates.poll();
+            }
+        }
+        List<Candidate> closest = new ArrayList<>(candidates);
+        closest.sort(closestFirst);
+        return closest.stream()
+                .map(candidate -> new NearMiss(candidate.request(), requestPattern, candidate.matchResult()))
+                .toList();
+    }
+
+    /**
+     * Builds the exception for a pattern that no request matches, with the diff between the pattern and the closest of
+     * the given requests.
+     *
+     * @param requestPattern the pattern that no request matches
+     * @param requests       the requests in the order of the request journal, the oldest first
+     * @return the verification exception
+     */
+    public static VerificationException verificationException(RequestPattern requestPattern,
+            List<LoggedRequest> requests) {
+        List<NearMiss> nearMisses = rank(requestPattern, requests, 1);
+        if (!nearMisses.isEmpty()) {
+            Diff diff = new Diff(requestPattern, nearMisses.get(0).getRequest());
+            return VerificationException.forUnmatchedRequestPattern(diff);
+        }
+        return new VerificationException(requestPattern, requests);
+    }
+
+    private record Candidate(int index, LoggedRequest request, MatchResult matchResult, double distance) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.time.Duration;
+
+import org.awaitility.pollinterval.PollInterval;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The PollStrategy class defines how often a WireMock server is polled while a verification waits for asynchronous
+ * requests. It applies when the verifier cannot be woken up by the server, e.g. when WireMock runs remotely or in a
+ * container. A short initial delay and interval let fast flows pass quickly, and the growing intervals up to the cap
+ * keep slow flows from loading the admin API.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class PollStrategy implements PollInterval {
+
+    private final Duration initialDelay;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final Backoff backoff;
+
+    private PollStrategy(Duration initialDelay, Duration initialInterval, Duration maxInterval, Backoff backoff) {
+        if (initialInterval.isNegative() || initialInterval.isZero()) {
+            throw new IllegalArgumentException("Poll interval must be positive: " + initialInterval);
+        }
+        if (maxInterval.compareTo(initialInterval) < 0) {
+            throw new IllegalArgumentException("Maximum poll interval must not be less than the initial interval: "
+                    + maxInterval);
+        }
+        this.initialDelay = initialDelay;
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.backoff = backoff;
+    }
+
+    /**
+     * Creates a strategy that polls the server with the given fixed interval.
+     *
+     * @param interval the interval between the polls
+     * @return the poll strategy
+     */
+    public static PollStrategy fixed(Duration interval) {
+        return new PollStrategy(interval, interval, interval, Backoff.FIXED);
+    }
+
+    /**
+     * Creates a strategy that doubles the interval after every poll, up to the given maximum interval.
+     *
+     * @param initialInterval the interval before the second poll
+     * @param maxInterval     the maximum interval between the polls
+     * @return the poll strategy
+     */
+    public static PollStrategy exponential(Duration initialInterval, Duration maxInterval) {
+        return new PollStrategy(initialInterval, initialInterval, maxInterval, Backoff.EXPONENTIAL);
+    }
+
+    /**
+     * Creates a strategy that grows the interval as the Fibonacci sequence of the given interval (1, 2, 3, 5, 8 ...
+     * times the interval), up to the given maximum interval. The intervals grow slower than the exponential ones.
+     *
+     * @param initialInterval the interval before the second poll
+     * @param maxInterval     the maximum interval between the polls
+     * @return the poll strategy
+     */
+    public static PollStrategy fibonacci(Duration initialInterval, Duration maxInterval) {
+        return new PollStrategy(initialInterval, initialInterval, maxInterval, Backoff.FIBONACCI);
+    }
+
+    /**
+     * Creates a copy of this strategy that makes the first poll after the given delay. By default the first poll is
+     * made after the initial interval.
+     *
+     * @param initialDelay the delay before the first poll, may be zero
+     * @return the poll strategy with the initial delay
+     */
+    public PollStrategy withInitialDelay(Duration initialDelay) {
+        if (initialDelay.isNegative()) {
+            throw new IllegalArgumentException("Initial delay must not be negative: " + initialDelay);
+        }
+        return new PollStrategy(initialDelay, initialInterval, maxInterval, backoff);
+    }
+
+    @Override
+    public Duration next(int pollCount, Duration previousDuration) {
+        long multiplier = switch (backoff) {
+            case FIXED -> 1;
+            case EXPONENTIAL -> 1L << Math.min(pollCount - 1, 30);
+            case FIBONACCI -> fibonacci(pollCount);
+        };
+        // the multiplier is large enough to reach any cap long before the interval could overflow
+        Duration interval = initialInterval.multipliedBy(multiplier);
+        return interval.compareTo(maxInterval) > 0 ? maxInterval : interval;
+    }
+
+    private static long fibonacci(int pollCount) {
+        long previous = 1;
+        long current = 1;
+        for (int i = 1; i < Math.min(pollCount, 44); i++) {
+            long next = previous + current;
+            previous = current;
+            current = next;
+        }
+        return current;
+    }
+
+    private enum Backoff {
+        FIXED, EXPONENTIAL, FIBONACCI
+    }
+}
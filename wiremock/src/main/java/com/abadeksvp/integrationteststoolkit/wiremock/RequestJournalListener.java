@@ -0,0 +1,129 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestListener;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+
+/**
+ * The RequestJournalListener class listens for requests received by an in-process WireMock server and wakes up the
+ * verifications that are waiting for a request matching their pattern. WireMock notifies request listeners right
+ * before the request is added to the journal, so a woken verification may not see the new request yet. After every
+ * wake-up the journal is re-checked in short intervals for a while, before falling back to waiting for the next
+ * request.
+ */
+public class RequestJournalListener implements RequestListener {
+
+    // the journal write follows the listeners in the same thread, so it is expected well within the window
+    private static final Duration JOURNAL_WRITE_WINDOW = Duration.ofMillis(25);
+    private static final Duration JOURNAL_RECHECK_INTERVAL = Duration.ofMillis(1);
+
+    // a server cannot remove its listeners, so a single listener is added to every server
+    private static final Map<WireMockServer, RequestJournalListener> LISTENERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<RequestAwaiter> awaiters = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger fallbackPolls = new AtomicInteger();
+
+    /**
+     * Returns the listener of the given in-process WireMock server, adding it to the server on the first call.
+     *
+     * @param server the in-process WireMock server
+     * @return the listener of the server
+     */
+    static RequestJournalListener of(WireMockServer server) {
+        return LISTENERS.computeIfAbsent(server, key -> {
+            RequestJournalListener listener = new RequestJournalListener();
+            key.addMockServiceRequestListener(listener);
+            return listener;
+        });
+    }
+
+    @Override
+    public void requestReceived(Request request, Response response) {
+        awaiters.forEach(awaiter -> awaiter.requestReceived(request));
+    }
+
+    /**
+     * Registers an awaiter for requests matching the given pattern. The awaiter must be closed once the verification
+     * is finished.
+     *
+     * @param requestPattern the pattern of the requests to wait for
+     * @return the registered awaiter
+     */
+    RequestAwaiter register(RequestPattern requestPattern) {
+        RequestAwaiter awaiter = new RequestAwaiter(requestPattern);
+        awaiters.add(awaiter);
+        return awaiter;
+    }
+
+    /**
+     * Returns the number of fallback polls made by the awaiters after a matching request was received, i.e. the waits
+     * that timed out instead of being ended by a wake-up or a re-check.
+     *
+     * @return the number of fallback polls after a matching request
+     */
+    int fallbackPolls() {
+        return fallbackPolls.get();
+    }
+
+    class RequestAwaiter implements AutoCloseable {
+
+        private final RequestPattern requestPattern;
+        // starts with a permit so that the first attempt is made without waiting, as if after a wake-up
+        private final Semaphore receivedRequests = new Semaphore(1);
+        // the end of the re-checks after the last wake-up, only accessed by the waiting thread
+        private long recheckDeadline;
+        private boolean rechecking;
+        private volatile boolean matchingRequestReceived;
+
+        private RequestAwaiter(RequestPattern requestPattern) {
+            this.requestPattern = requestPattern;
+        }
+
+        private void requestReceived(Request request) {
+            if (requestPattern.match(request).isExactMatch()) {
+                matchingRequestReceived = true;
+                receivedRequests.release();
+            }
+        }
+
+        /**
+         * Waits until a matching request is received since the previous call, but no longer than the given timeout.
+         * Within a short window after a wake-up, it only waits for the re-check interval, since the request that woke
+         * the verification may not have been added to the journal yet.
+         *
+         * @param timeout the maximum time to wait
+         * @throws InterruptedException if the waiting thread is interrupted
+         */
+        void awaitRequest(Duration timeout) throws InterruptedException {
+            if (rechecking && System.nanoTime() - recheckDeadline >= 0) {
+                rechecking = false;
+            }
+            Duration waitTime = rechecking ? JOURNAL_RECHECK_INTERVAL : timeout;
+            if (receivedRequests.tryAcquire(waitTime.toNanos(), TimeUnit.NANOSECONDS)) {
+                receivedRequests.drainPermits();
+                recheckDeadline = System.nanoTime() + JOURNAL_WRITE_WINDOW.toNanos();
+                rechecking = true;
+            } else if (!rechecking && matchingRequestReceived) {
+                fallbackPolls.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void close() {
+            awaiters.remove(this);
+        }
+    }
+}
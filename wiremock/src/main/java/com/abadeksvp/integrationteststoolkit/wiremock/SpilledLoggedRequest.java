@@ -0,0 +1,58 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import com.github.tomakehurst.wiremock.common.Encoding;
+import com.github.tomakehurst.wiremock.common.Strings;
+import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
+import com.github.tomakehurst.wiremock.http.Cookie;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+/**
+ * A logged request whose body is kept in a file instead of the heap. The body is read from the file every time it is
+ * asked for, so it is only on the heap while it is being matched. The file is deleted by the journal once the request
+ * is unreachable, and it is not mapped, so that it can be deleted also on the platforms that do not delete mapped
+ * files.
+ */
+final class SpilledLoggedRequest extends LoggedRequest {
+
+    @Getter
+    private final Path bodyFile;
+
+    SpilledLoggedRequest(String url, String absoluteUrl, RequestMethod method, String clientIp, HttpHeaders headers,
+            Map<String, Cookie> cookies, boolean isBrowserProxyRequest, Date loggedDate,
+            Collection<Part> multiparts, String protocol, Path bodyFile) {
+        super(url, absoluteUrl, method, clientIp, headers, cookies, isBrowserProxyRequest, loggedDate, (byte[]) null,
+                multiparts, protocol);
+        this.bodyFile = bodyFile;
+    }
+
+    @SneakyThrows
+    @Override
+    public byte[] getBody() {
+        return Files.readAllBytes(bodyFile);
+    }
+
+    @Override
+    public String getBodyAsString() {
+        ContentTypeHeader contentTypeHeader = contentTypeHeader();
+        Charset charset = contentTypeHeader != null ? contentTypeHeader.charset() : StandardCharsets.UTF_8;
+        return Strings.stringFromBytes(getBody(), charset);
+    }
+
+    @Override
+    public String getBodyAsBase64() {
+        return Encoding.encodeBase64(getBody());
+    }
+}
@@ -0,0 +1,89 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.metrics.BodyMatchEvent;
+import com.abadeksvp.integrationteststoolkit.wiremock.metrics.VerificationEvent;
+import com.abadeksvp.integrationteststoolkit.wiremock.metrics.VerificationMetrics;
+import com.abadeksvp.integrationteststoolkit.wiremock.metrics.VerificationMetricsListener;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.RequestBodyVerifier;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the phases of a single verification and reports them as a JFR event and to the metrics listeners once the
+ * verification has finished. The attempts of a waiting verification may run on another thread than the one that
+ * finishes the recording.
+ */
+@Slf4j
+class VerificationRecorder {
+
+    private final String request;
+    private final List<VerificationMetricsListener> listeners;
+    private final VerificationEvent event = new VerificationEvent();
+    private final long startTime = System.nanoTime();
+    private final AtomicLong journalFetchTime = new AtomicLong();
+    private final AtomicInteger scannedRequests = new AtomicInteger();
+    private final AtomicLong matchTime = new AtomicLong();
+    private final AtomicLong nearMissTime = new AtomicLong();
+    private final AtomicInteger pollCount = new AtomicInteger();
+
+    VerificationRecorder(String request, List<VerificationMetricsListener> listeners) {
+        this.request = request;
+        this.listeners = listeners;
+        event.begin();
+    }
+
+    List<LoggedRequest> fetchJournal(Supplier<List<LoggedRequest>> fetch) {
+        long start = System.nanoTime();
+        List<LoggedRequest> requests = fetch.get();
+        journalFetchTime.addAndGet(System.nanoTime() - start);
+        scannedRequests.addAndGet(requests.size());
+        pollCount.incrementAndGet();
+        return requests;
+    }
+
+    void matchBodies(RequestBodyVerifier bodyVerifier, int requestCount, Runnable match) {
+        BodyMatchEvent bodyMatchEvent = new BodyMatchEvent();
+        bodyMatchEvent.begin();
+        long start = System.nanoTime();
+        try {
+            match.run();
+        } finally {
+            matchTime.addAndGet(System.nanoTime() - start);
+            bodyMatchEvent.record(bodyVerifier.getClass(), requestCount);
+        }
+    }
+
+    <T> T findNearMisses(Supplier<T> lookup) {
+        long start = System.nanoTime();
+        try {
+            return lookup.get();
+        } finally {
+            nearMissTime.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    void finish(boolean passed) {
+        long totalTime = System.nanoTime() - startTime;
+        long activeTime = journalFetchTime.get() + matchTime.get() + nearMissTime.get();
+        VerificationMetrics metrics = new VerificationMetrics(request, passed,
+                Duration.ofNanos(journalFetchTime.get()), scannedRequests.get(), Duration.ofNanos(matchTime.get()),
+                Duration.ofNanos(nearMissTime.get()), pollCount.get(),
+                Duration.ofNanos(Math.max(totalTime - activeTime, 0)), Duration.ofNanos(totalTime));
+        event.record(metrics);
+        for (VerificationMetricsListener listener : listeners) {
+            try {
+                listener.verified(metrics);
+            } catch (RuntimeException e) {
+                // a failing listener must not hide the result of the verification
+                log.warn("Verification metrics listener failed", e);
+            }
+        }
+    }
+}
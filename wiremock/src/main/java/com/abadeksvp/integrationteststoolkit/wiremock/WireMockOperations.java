@@ -0,0 +1,73 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.util.List;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.tomakehurst.wiremock.verification.NearMiss;
+
+/**
+ * The WireMockOperations interface represents the operations of the WireMock admin API used to verify requests and
+ * create stubs. It allows to work either with the default static WireMock client or with a specific client or server
+ * instance.
+ */
+public interface WireMockOperations {
+
+    List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder);
+
+    List<NearMiss> findNearMissesFor(RequestPatternBuilder requestPatternBuilder);
+
+    void verify(RequestPatternBuilder requestPatternBuilder);
+
+    StubMapping stubFor(MappingBuilder mappingBuilder);
+
+    void importStubs(StubImportBuilder stubImport);
+
+    /**
+     * Returns the operations of the default static WireMock client, e.g. configured by
+     * <code>@AutoConfigureWireMock</code>. The calls are sent to the admin HTTP API of the server.
+     *
+     * @return the operations of the default WireMock client
+     */
+    static WireMockOperations defaultClient() {
+        return DefaultClientOperations.INSTANCE;
+    }
+
+    /**
+     * Returns the operations of the given WireMock client.
+     *
+     * @param wireMock the WireMock client
+     * @return the operations of the client
+     */
+    static WireMockOperations of(WireMock wireMock) {
+        return new ClientOperations(wireMock);
+    }
+
+    /**
+     * Returns the operations of the given WireMock server running in the same JVM. The calls go directly to the
+     * in-memory admin API of the server without HTTP requests and JSON serialization.
+     *
+     * @param server the in-process WireMock server
+     * @return the operations of the server
+     */
+    static WireMockOperations of(WireMockServer server) {
+        return of(new WireMock(server));
+    }
+
+    /**
+     * Returns the operations that query the requests recorded by the given journal instead of the journal of the
+     * server, and create the stubs on the given WireMock server running in the same JVM.
+     *
+     * @param server  the in-process WireMock server
+     * @param journal the journal recording the requests of the server
+     * @return the operations of the journal and the server
+     */
+    static WireMockOperations of(WireMockServer server, BoundedRequestJournal journal) {
+        return new JournalOperations(journal, of(server));
+    }
+}
@@ -1,10 +1,19 @@
 package com.abadeksvp.integrationteststoolkit.wiremock;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import com.abadeksvp.integrationteststoolkit.resource.ClasspathResourceReader;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubImport;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 
 import lombok.Setter;
@@ -19,35 +28,121 @@ import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.r
 @Slf4j
 public class WireMockStubCreator {
 
+    private final WireMockOperations wireMock;
+
     @Setter
     private ClasspathResourceReader resourceReader = new ClasspathResourceReader();
 
     @Setter
     private HttpHeaders defaultHeaders = new HttpHeaders();
 
+    public WireMockStubCreator() {
+        this(WireMockOperations.defaultClient());
+    }
+
+    /**
+     * Creates a stub creator that creates the stubs on the given in-process WireMock server directly through its
+     * in-memory admin API, without HTTP requests and JSON serialization.
+     *
+     * @param server the in-process WireMock server, e.g. started by <code>@AutoConfigureWireMock</code>
+     */
+    public WireMockStubCreator(WireMockServer server) {
+        this(WireMockOperations.of(server));
+    }
+
+    public WireMockStubCreator(WireMockOperations wireMock) {
+        this.wireMock = wireMock;
+    }
+
     public StubMapping createEmptyStub(RequestMethod httpMethod, UrlPattern urlPattern) {
-        return WireMock.stubFor(WireMock.request(httpMethod.getName(), urlPattern)
-                .willReturn(responseDefinition()
-                        .withHeaders(defaultHeaders)
-                        .withStatus(200)
-                ));
+        return wireMock.stubFor(emptyStub(httpMethod, urlPattern));
     }
 
     public StubMapping createStub(RequestMethod httpMethod, UrlPattern urlPattern, String responseBody) {
-        return WireMock.stubFor(WireMock.request(httpMethod.getName(), urlPattern)
+        return wireMock.stubFor(stub(httpMethod, urlPattern, responseBody));
+    }
+
+    public StubMapping createStubFromResource(RequestMethod httpMethod, UrlPattern urlPattern, String resourceName) {
+        return wireMock.stubFor(stubFromResource(httpMethod, urlPattern, resourceName));
+    }
+
+    /**
+     * Creates all the given stub mappings with a single import request to the WireMock server. The stubs take
+     * priority over each other as if they were created one by one in the given order.
+     *
+     * @param stubs the stub mappings to create, e.g. built with {@link #stub(RequestMethod, UrlPattern, String)}
+     * @return the created stub mappings
+     */
+    public List<StubMapping> createStubs(Collection<MappingBuilder> stubs) {
+        List<StubMapping> stubMappings = stubs.stream()
+                .map(MappingBuilder::build)
+                .toList();
+        // WireMock imports the stubs in reverse order, so that the first stub of an import takes priority
+        List<StubMapping> importOrder = new ArrayList<>(stubMappings);
+        Collections.reverse(importOrder);
+        StubImportBuilder stubImport = StubImport.stubImport();
+        importOrder.forEach(stubImport::stub);
+        wireMock.importStubs(stubImport);
+        log.debug("Created {} stubs with a single import", stubMappings.size());
+        return stubMappings;
+    }
+
+    /**
+     * Defines a stub mapping that responds with the default headers and an empty body without creating it.
+     *
+     * @param httpMethod the HTTP method of the stubbed request
+     * @param urlPattern the pattern for the URL of the stubbed request
+     * @return the stub mapping definition
+     */
+    public MappingBuilder emptyStub(RequestMethod httpMethod, UrlPattern urlPattern) {
+        return WireMock.request(httpMethod.getName(), urlPattern)
                 .willReturn(responseDefinition()
                         .withHeaders(defaultHeaders)
                         .withStatus(200)
-                        .withBody(responseBody)
-                ));
+                );
     }
 
-    public StubMapping createStubFromResource(RequestMethod httpMethod, UrlPattern urlPattern, String resourceName) {
-        return WireMock.stubFor(WireMock.request(httpMethod.getName(), urlPattern)
+    /**
+     * Defines a stub mapping that responds with the default headers and the given body without creating it.
+     *
+     * @param httpMethod   the HTTP method of the stubbed request
+     * @param urlPattern   the pattern for the URL of the stubbed request
+     * @param responseBody the body of the response
+     * @return the stub mapping definition
+     */
+    public MappingBuilder stub(RequestMethod httpMethod, UrlPattern urlPattern, String responseBody) {
+        return stub(httpMethod, urlPattern, 200, responseBody);
+    }
+
+    /**
+     * Defines a stub mapping that responds with the given status, the default headers and the given body without
+     * creating it.
+     *
+     * @param httpMethod   the HTTP method of the stubbed request
+     * @param urlPattern   the pattern for the URL of the stubbed request
+     * @param status       the status of the response
+     * @param responseBody the body of the response
+     * @return the stub mapping definition
+     */
+    public MappingBuilder stub(RequestMethod httpMethod, UrlPattern urlPattern, int status, String responseBody) {
+        return WireMock.request(httpMethod.getName(), urlPattern)
                 .willReturn(responseDefinition()
                         .withHeaders(defaultHeaders)
-                        .withStatus(200)
-                        .withBody(resourceReader.readString(resourceName))
-                ));
+                        .withStatus(status)
+                        .withBody(responseBody)
+                );
+    }
+
+    /**
+     * Defines a stub mapping that responds with the default headers and the content of the given resource without
+     * creating it.
+     *
+     * @param httpMethod   the HTTP method of the stubbed request
+     * @param urlPattern   the pattern for the URL of the stubbed request
+     * @param resourceName the name of the resource with the body of the response
+     * @return the stub mapping definition
+     */
+    public MappingBuilder stubFromResource(RequestMethod httpMethod, UrlPattern urlPattern, String resourceName) {
+        return stub(httpMethod, urlPattern, resourceReader.readString(resourceName));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import com.abadeksvp.integrationteststoolkit.resource.ClasspathResourceReader;
+import com.abadeksvp.integrationteststoolkit.resource.FileSystemResourceReader;
+import com.abadeksvp.integrationteststoolkit.resource.ResourceReader;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+
+/**
+ * The WireMockStubLoader class creates stub mappings for all the files of a directory. The path of a file relative to
+ * the directory defines the stubbed request and the response status, and the content of the file is the response
+ * body:
+ * <pre>
+ * {directory}/{url path}/{HTTP method}[.{status}].{extension}
+ * </pre>
+ * For example, <code>api/users/GET.json</code> stubs <code>GET /api/users</code> with status 200 and
+ * <code>api/users/POST.201.json</code> stubs <code>POST /api/users</code> with status 201. The query of the stubbed
+ * requests is not matched. The files are read in parallel and all the stubs are created with a single request.
+ * <p>
+ * Hidden files and backup files, e.g. <code>.gitkeep</code> or <code>GET.json~</code>, are always skipped. The other
+ * files whose names do not follow the convention, e.g. <code>README.md</code> or <code>GET.json.bak</code>, are
+ * skipped with a warning, unless the loader is strict, see <code>setStrict(true)</code>.
+ */
+@Slf4j
+public class WireMockStubLoader {
+
+    private final WireMockStubCreator stubCreator;
+
+    @Setter
+    private ClasspathResourceReader resourceReader = new ClasspathResourceReader();
+
+    /**
+     * Whether a file whose name does not follow the convention fails the whole load with an
+     * {@link IllegalArgumentException} instead of being skipped. Hidden and backup files are skipped in both
+     * cases.
+     */
+    @Setter
+    private boolean strict;
+
+    public WireMockStubLoader(WireMockStubCreator stubCreator) {
+        this.stubCreator = stubCreator;
+    }
+
+    /**
+     * Creates stub mappings for all the files of a classpath directory. The files of the directory in all the
+     * classpath roots are loaded, e.g. of the main and test resources or of several jars. If several roots contain a
+     * file with the same relative name, the file of the first root on the classpath is loaded.
+     *
+     * @param directory the classpath directory with the stub files, e.g. <code>/stubs</code>
+     * @return the report of the loaded stubs
+     */
+    public StubLoadReport loadFromClasspath(String directory) {
+        long startTime = System.nanoTime();
+        String directoryName = StringUtils.strip(directory, "/");
+        List<String> fileNames = classpathFileNames(new PathMatchingResourcePatternResolver(), directoryName);
+        return load("/" + directoryName + "/", fileNames, resourceReader, startTime);
+    }
+
+    /**
+     * Creates stub mappings for all the files of a file system directory.
+     *
+     * @param directory the file system directory with the stub files
+     * @return the report of the loaded stubs
+     */
+    @SneakyThrows
+    public StubLoadReport loadFromDirectory(Path directory) {
+        long startTime = System.nanoTime();
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Directory not found: " + directory);
+        }
+        List<String> fileNames;
+        try (Stream<Path> files = Files.walk(directory)) {
+            fileNames = files.filter(Files::isRegularFile)
+                    .map(file -> directory.relativize(file).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+        return load("", fileNames, new FileSystemResourceReader(directory), startTime);
+    }
+
+    /**
+     * Returns the names of the files of the given directory in all the classpath roots, relative to the directory in
+     * their own root, without duplicates and sorted.
+     *
+     * @param resolver      the resolver of the classpath resources
+     * @param directoryName the classpath directory without the leading and trailing slashes
+     * @return the relative names of the files
+     */
+    @SneakyThrows
+    static List<String> classpathFileNames(ResourcePatternResolver resolver, String directoryName) {
+        List<String> rootUrls = Arrays.stream(resolver.getResources("classpath*:" + directoryName + "/"))
+                .map(WireMockStubLoader::url)
+                .toList();
+        if (rootUrls.isEmpty()) {
+            throw new IOException("Directory not found: /" + directoryName);
+        }
+        return Arrays.stream(resolver.getResources("classpath*:" + directoryName + "/**/*"))
+                .filter(Resource::isReadable)
+                .map(resource -> relativeName(rootUrls, url(resource)))
+                .filter(name -> !name.isEmpty() && !name.endsWith("/"))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private StubLoadReport load(String prefix, List<String> fileNames, ResourceReader reader, long startTime) {
+        List<MappingBuilder> stubs = fileNames.parallelStream()
+                .map(fileName -> defineStub(fileName, reader, prefix))
+                .filter(Objects::nonNull)
+                .toList();
+        stubCreator.createStubs(stubs);
+        StubLoadReport report = new StubLoadReport(stubs.size(), Duration.ofNanos(System.nanoTime() - startTime));
+        log.info("Loaded {} stubs in {} ms", report.stubCount(), report.loadTime().toMillis());
+        return report;
+    }
+
+    private MappingBuilder defineStub(String fileName, ResourceReader reader, String prefix) {
+        int nameStart = fileName.lastIndexOf('/') + 1;
+        if (fileName.startsWith(".", nameStart) || fileName.endsWith("~")) {
+            log.debug("Skipping hidden or backup file {}", fileName);
+            return null;
+        }
+        String urlPath = "/" + fileName.substring(0, Math.max(nameStart - 1, 0));
+        String[] nameParts = fileName.substring(nameStart).split("\\.");
+        RequestMethod httpMethod = nameParts.length == 2 || nameParts.length == 3
+                ? RequestMethod.fromString(nameParts[0].toUpperCase())
+                : null;
+        if (!Arrays.asList(RequestMethod.values()).contains(httpMethod)
+                || nameParts.length == 3 && !StringUtils.isNumeric(nameParts[1])) {
+            if (strict) {
+                throw new IllegalArgumentException("Stub file name must be {HTTP method}[.{status}].{extension}: "
+                        + fileName);
+            }
+            log.warn("Skipping file {}, its name is not {HTTP method}[.{status}].{extension}", fileName);
+            return null;
+        }
+        int status = nameParts.length == 3 ? Integer.parseInt(nameParts[1]) : 200;
+        return stubCreator.stub(httpMethod, urlPathEqualTo(urlPath), status, reader.readString(prefix + fileName));
+    }
+
+    private static String relativeName(List<String> rootUrls, String url) {
+        // the longest matching root is the own root of the file, even if the roots are nested
+        return rootUrls.stream()
+                .filter(url::startsWith)
+                .max(Comparator.comparingInt(String::length))
+                .map(rootUrl -> url.substring(rootUrl.length()))
+                .orElse("");
+    }
+
+    @SneakyThrows
+    private static String url(Resource resource) {
+        return resource.getURL().toString();
+    }
+
+    /**
+     * The report of loading stub mappings from a directory.
+     *
+     * @param stubCount the number of created stubs
+     * @param loadTime  the time it took to read the files and create the stubs
+     */
+    public record StubLoadReport(int stubCount, Duration loadTime) {
+    }
+}
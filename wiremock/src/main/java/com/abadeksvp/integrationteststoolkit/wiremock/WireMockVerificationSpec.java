@@ -4,10 +4,12 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.skyscreamer.jsonassert.comparator.CustomComparator;
 
+import com.abadeksvp.integrationteststoolkit.wiremock.tag.RequestTags;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JacksonComparisonEngine;
 import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JsonBodyVerifier;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JsonComparisonEngine;
 import com.abadeksvp.integrationteststoolkit.wiremock.verifier.RequestBodyVerifier;
 import com.abadeksvp.integrationteststoolkit.wiremock.verifier.TextBodyVerifier;
 import com.abadeksvp.integrationteststoolkit.wiremock.verifier.XmlBodyVerifier;
@@ -40,6 +42,8 @@ public class WireMockVerificationSpec {
     private Map<String, StringValuePattern> headers = new HashMap<>();
     private RequestBodyVerifier requestBodyVerifier;
     private Duration waitDuration;
+    private PollStrategy pollStrategy;
+    private String tag;
 
     private WireMockVerificationSpec() {
     }
@@ -81,6 +85,31 @@ public class WireMockVerificationSpec {
         return this;
     }
 
+    /**
+     * Sets the strategy of polling the WireMock server while waiting for the specified interactions, instead of the
+     * default one of the verifier.
+     *
+     * @param pollStrategy the poll strategy
+     * @return the WireMockVerificationSpec object with the poll strategy
+     * @see WireMockVerifier#setDefaultPollStrategy(PollStrategy)
+     */
+    public WireMockVerificationSpec withPollStrategy(PollStrategy pollStrategy) {
+        this.pollStrategy = pollStrategy;
+        return this;
+    }
+
+    /**
+     * Verifies only the requests with the given request tag instead of the tag of the current test.
+     *
+     * @param tag the tag of the requests to verify
+     * @return the WireMockVerificationSpec object with the request tag
+     * @see RequestTags
+     */
+    public WireMockVerificationSpec withTag(String tag) {
+        this.tag = tag;
+        return this;
+    }
+
     /**
      * Adds a header with the given name and value pattern to the WireMockVerificationSpec object.
      *
@@ -94,13 +123,14 @@ public class WireMockVerificationSpec {
     }
 
     /**
-     * Sets the JSON body verifier for the WireMockVerificationSpec object.
+     * Sets the JSON body verifier for the WireMockVerificationSpec object. The request bodies must be exactly equal
+     * to the content, as in the JSONAssert STRICT mode.
      *
      * @param content the JSON content of the request body
      * @return the WireMockVerificationSpec object with the JSON body verifier
      */
     public WireMockVerificationSpec withJsonBody(String content) {
-        this.requestBodyVerifier = new JsonBodyVerifier(content, new CustomComparator(JSONCompareMode.STRICT));
+        this.requestBodyVerifier = new JsonBodyVerifier(content);
         return this;
     }
 
@@ -116,6 +146,18 @@ public class WireMockVerificationSpec {
         return this;
     }
 
+    /**
+     * Sets the JSON body verifier for the WireMockVerificationSpec object.
+     *
+     * @param content          the JSON content of the request body
+     * @param comparisonEngine the engine to use for JSON comparison, e.g. {@link JacksonComparisonEngine}
+     * @return the WireMockVerificationSpec object with the JSON body verifier
+     */
+    public WireMockVerificationSpec withJsonBody(String content, JsonComparisonEngine comparisonEngine) {
+        this.requestBodyVerifier = new JsonBodyVerifier(content, comparisonEngine);
+        return this;
+    }
+
     /**
      * Sets the text body verifier for the WireMockVerificationSpec object.
      *
@@ -138,6 +180,24 @@ public class WireMockVerificationSpec {
         return this;
     }
 
+    /**
+     * Sets the streaming XML body verifier for the WireMockVerificationSpec object. The expected document is parsed
+     * once and compared with the request bodies without building a DOM of every body. The ignored nodes are matched by
+     * their local names only, so an ignored name applies to the elements or attributes of that name in any
+     * namespace, e.g. <code>MessageID</code> ignores both <code>wsa:MessageID</code> and an unqualified
+     * <code>MessageID</code>.
+     *
+     * @param content      the expected XML document
+     * @param ignoredNodes the local names of the ignored elements and of the ignored attributes prefixed with
+     *                     <code>@</code>
+     * @return the WireMockVerificationSpec object with the XML body verifier
+     * @see XmlBodyVerifier#XmlBodyVerifier(String, String...)
+     */
+    public WireMockVerificationSpec withXmlBody(String content, String... ignoredNodes) {
+        this.requestBodyVerifier = new XmlBodyVerifier(content, ignoredNodes);
+        return this;
+    }
+
     /**
      * Sets the request body verifier for the WireMockVerificationSpec object.
      *
@@ -0,0 +1,40 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JFR event of matching the bodies of the logged requests by a RequestBodyVerifier. The duration of the event is
+ * the match time.
+ */
+@Name("com.abadeksvp.integrationteststoolkit.WireMockBodyMatch")
+@Label("WireMock Body Match")
+@Category({"Integration Tests Toolkit", "WireMock"})
+@Description("Matching of the request bodies by a request body verifier")
+public class BodyMatchEvent extends Event {
+
+    @Label("Body Verifier")
+    private String bodyVerifier;
+
+    @Label("Matched Requests")
+    private int requestCount;
+
+    /**
+     * Ends the event and commits it, if the event is enabled.
+     *
+     * @param bodyVerifier the class of the request body verifier
+     * @param requestCount the number of the requests whose bodies were matched
+     */
+    public void record(Class<?> bodyVerifier, int requestCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.bodyVerifier = bodyVerifier.getName();
+        this.requestCount = requestCount;
+        commit();
+    }
+}
@@ -0,0 +1,37 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * A VerificationMetricsListener that records the metrics of the verifications with Micrometer. The meters are tagged
+ * with the outcome of the verification, <code>passed</code> or <code>failed</code>. Micrometer is an optional
+ * dependency and has to be added to the test classpath to use this listener.
+ */
+public class MicrometerVerificationMetrics implements VerificationMetricsListener {
+
+    private final MeterRegistry registry;
+
+    public MicrometerVerificationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void verified(VerificationMetrics metrics) {
+        Tags tags = Tags.of("outcome", metrics.passed() ? "passed" : "failed");
+        registry.timer("wiremock.verification", tags).record(metrics.totalTime());
+        registry.timer("wiremock.verification.journal.fetch", tags).record(metrics.journalFetchTime());
+        registry.timer("wiremock.verification.match", tags).record(metrics.matchTime());
+        registry.timer("wiremock.verification.near.miss", tags).record(metrics.nearMissTime());
+        registry.timer("wiremock.verification.wait", tags).record(metrics.waitTime());
+        DistributionSummary.builder("wiremock.verification.scanned.requests")
+                .tags(tags)
+                .register(registry)
+                .record(metrics.scannedRequests());
+        DistributionSummary.builder("wiremock.verification.polls")
+                .tags(tags)
+                .register(registry)
+                .record(metrics.pollCount());
+    }
+}
@@ -0,0 +1,68 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event of a verification made by a WireMockVerifier. The duration of the event is the total time of the
+ * verification.
+ */
+@Name("com.abadeksvp.integrationteststoolkit.WireMockVerification")
+@Label("WireMock Verification")
+@Category({"Integration Tests Toolkit", "WireMock"})
+@Description("Verification of the requests received by a WireMock server")
+public class VerificationEvent extends Event {
+
+    @Label("Request")
+    private String request;
+
+    @Label("Passed")
+    private boolean passed;
+
+    @Label("Journal Fetch Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long journalFetchTime;
+
+    @Label("Scanned Requests")
+    private int scannedRequests;
+
+    @Label("Match Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long matchTime;
+
+    @Label("Near Miss Lookup Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long nearMissTime;
+
+    @Label("Poll Count")
+    private int pollCount;
+
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long waitTime;
+
+    /**
+     * Ends the event and commits it with the given metrics, if the event is enabled.
+     *
+     * @param metrics the metrics of the verification
+     */
+    public void record(VerificationMetrics metrics) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        request = metrics.request();
+        passed = metrics.passed();
+        journalFetchTime = metrics.journalFetchTime().toNanos();
+        scannedRequests = metrics.scannedRequests();
+        matchTime = metrics.matchTime().toNanos();
+        nearMissTime = metrics.nearMissTime().toNanos();
+        pollCount = metrics.pollCount();
+        waitTime = metrics.waitTime().toNanos();
+        commit();
+    }
+}
@@ -0,0 +1,21 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.metrics;
+
+import java.time.Duration;
+
+/**
+ * The metrics of a single verification, from the first journal fetch to the result. A verification that waits for
+ * asynchronous requests makes several attempts, the times are the sums over all the attempts.
+ *
+ * @param request          the description of the verified requests, e.g. <code>GET /test</code>
+ * @param passed           whether the verification passed
+ * @param journalFetchTime the time spent fetching the requests from the WireMock server
+ * @param scannedRequests  the number of fetched requests
+ * @param matchTime        the time spent matching the request bodies
+ * @param nearMissTime     the time spent looking up the near misses of a failed verification
+ * @param pollCount        the number of verification attempts
+ * @param waitTime         the time spent waiting between the attempts
+ * @param totalTime        the total time of the verification
+ */
+public record VerificationMetrics(String request, boolean passed, Duration journalFetchTime, int scannedRequests,
+        Duration matchTime, Duration nearMissTime, int pollCount, Duration waitTime, Duration totalTime) {
+}
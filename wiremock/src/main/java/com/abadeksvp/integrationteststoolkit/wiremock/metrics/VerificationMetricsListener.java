@@ -0,0 +1,16 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.metrics;
+
+/**
+ * The VerificationMetricsListener interface represents a listener that is notified with the metrics of every
+ * verification made by a WireMockVerifier.
+ */
+@FunctionalInterface
+public interface VerificationMetricsListener {
+
+    /**
+     * Called after a verification has finished, whether it passed or not.
+     *
+     * @param metrics the metrics of the verification
+     */
+    void verified(VerificationMetrics metrics);
+}
@@ -0,0 +1,25 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.tag;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * A JUnit 5 extension that sets a new request tag (see {@link RequestTags}) before every test and clears it after the
+ * test.
+ * <pre>
+ * &#64;ExtendWith(RequestTagExtension.class)
+ * </pre>
+ */
+public class RequestTagExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RequestTags.start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        RequestTags.clear();
+    }
+}
@@ -0,0 +1,25 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.tag;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * A client interceptor that adds the current request tag (see {@link RequestTags}) to the outgoing requests, e.g. of
+ * the RestTemplate used by the tested application. Requests that already carry a tag are left as they are.
+ */
+public class RequestTagInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String tag = RequestTags.current();
+        if (tag != null && !request.getHeaders().containsKey(RequestTags.HEADER_NAME)) {
+            request.getHeaders().set(RequestTags.HEADER_NAME, tag);
+        }
+        return execution.execute(request, body);
+    }
+}
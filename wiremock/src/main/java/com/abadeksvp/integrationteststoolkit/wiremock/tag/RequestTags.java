@@ -0,0 +1,117 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.tag;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * The RequestTags class holds the tag of the currently running test. Requests sent while a tag is set carry it in the
+ * {@link #HEADER_NAME} header (see {@link RequestTagInterceptor}), and the WireMockVerifier only verifies the requests
+ * with the current tag. This way tests that run in parallel can share a single WireMock server without resetting its
+ * request journal.
+ * <p>
+ * The tag is bound to the thread that set it and is not inherited by other threads, since pooled threads would keep
+ * the tag of the test that happened to start them. The tasks that send requests on other threads, e.g. through an
+ * executor of the tested application, carry the tag with {@link #wrap(Runnable)} or {@link #propagating(Executor)};
+ * <code>RequestTags::wrap</code> can also be set as the task decorator of a Spring executor.
+ */
+public final class RequestTags {
+
+    public static final String HEADER_NAME = "X-Test-Request-Tag";
+
+    private static final ThreadLocal<String> CURRENT_TAG = new ThreadLocal<>();
+
+    private RequestTags() {
+    }
+
+    /**
+     * Sets a new unique tag for the current thread.
+     *
+     * @return the new tag
+     */
+    public static String start() {
+        String tag = UUID.randomUUID().toString();
+        set(tag);
+        return tag;
+    }
+
+    /**
+     * Sets the given tag for the current thread.
+     *
+     * @param tag the tag of the requests, or null to clear it
+     */
+    public static void set(String tag) {
+        if (tag == null) {
+            clear();
+        } else {
+            CURRENT_TAG.set(tag);
+        }
+    }
+
+    /**
+     * Returns the tag of the current thread.
+     *
+     * @return the current tag, or null if no tag is set
+     */
+    public static String current() {
+        return CURRENT_TAG.get();
+    }
+
+    /**
+     * Clears the tag of the current thread.
+     */
+    public static void clear() {
+        CURRENT_TAG.remove();
+    }
+
+    /**
+     * Wraps the given task so that it runs with the tag of the current thread, the thread that creates the wrapper,
+     * on whatever thread it is run. The previous tag of the running thread is restored after the task.
+     *
+     * @param task the task to run with the current tag
+     * @return the task that runs with the current tag
+     */
+    public static Runnable wrap(Runnable task) {
+        String tag = current();
+        return () -> {
+            String previousTag = current();
+            set(tag);
+            try {
+                task.run();
+            } finally {
+                set(previousTag);
+            }
+        };
+    }
+
+    /**
+     * Wraps the given task so that it runs with the tag of the current thread, the thread that creates the wrapper,
+     * on whatever thread it is run. The previous tag of the running thread is restored after the task.
+     *
+     * @param task the task to run with the current tag
+     * @param <T>  the type of the result of the task
+     * @return the task that runs with the current tag
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        String tag = current();
+        return () -> {
+            String previousTag = current();
+            set(tag);
+            try {
+                return task.call();
+            } finally {
+                set(previousTag);
+            }
+        };
+    }
+
+    /**
+     * Returns an executor that runs the tasks with the tag of the thread that submits them.
+     *
+     * @param executor the executor to run the tasks with
+     * @return the executor that propagates the tag to the tasks
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+}
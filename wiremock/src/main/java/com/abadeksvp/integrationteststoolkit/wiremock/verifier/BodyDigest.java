@@ -0,0 +1,31 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The BodyDigest record identifies the content of a request body by its length and SHA-256 digest, so that the bodies
+ * can be grouped and cached by their content without keeping the content itself.
+ *
+ * @param length the length of the body in bytes
+ * @param sha256 the SHA-256 digest of the body
+ */
+record BodyDigest(int length, ByteBuffer sha256) {
+
+    /**
+     * Computes the digest of the given body.
+     *
+     * @param body the content of the request body
+     * @return the digest of the body
+     */
+    static BodyDigest of(byte[] body) {
+        try {
+            byte[] sha256 = MessageDigest.getInstance("SHA-256").digest(body);
+            return new BodyDigest(body.length, ByteBuffer.wrap(sha256));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.util.List;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.NearMisses;
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
+import com.github.tomakehurst.wiremock.client.VerificationException;
+import com.github.tomakehurst.wiremock.matching.ContentPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+/**
+ * The BodyMatchCounts class compares the number of requests matched by a CountingRequestBodyVerifier with the expected
+ * number of interactions in the same way for all the body verifiers.
+ */
+final class BodyMatchCounts {
+
+    private BodyMatchCounts() {
+    }
+
+    /**
+     * Verifies that the number of matched requests satisfies the given WireMockVerificationSpec object.
+     *
+     * @param spec                  the WireMockVerificationSpec object specifying the verification criteria
+     * @param requests              the list of logged requests the matches were counted in
+     * @param actualCount           the number of matched requests
+     * @param requestPatternBuilder the request pattern builder used to define the request criteria
+     * @param bodyPattern           the pattern of the expected body, shown in the diff with the closest request if
+     *                              none matches
+     */
+    static void verifyCount(WireMockVerificationSpec spec, List<LoggedRequest> requests, int actualCount,
+            RequestPatternBuilder requestPatternBuilder, ContentPattern<?> bodyPattern) {
+        if (spec.getNumberOfInteractions().match(actualCount)) {
+            return;
+        }
+        if (actualCount > 0) {
+            throw new VerificationException(requestPatternBuilder.build(), spec.getNumberOfInteractions(),
+                    actualCount);
+        }
+        RequestPattern requestPattern = requestPatternBuilder.withRequestBody(bodyPattern).build();
+        // the requests matching everything but the body are the closest candidates
+        throw NearMisses.verificationException(requestPattern, requests);
+    }
+
+    /**
+     * Compiles the given body pattern into a pattern that matches the requests by their body only, with the same
+     * rules as the WireMock server.
+     *
+     * @param bodyPattern the pattern of the expected body
+     * @return the request pattern matching the body
+     */
+    static RequestPattern bodyOnly(ContentPattern<?> bodyPattern) {
+        return RequestPatternBuilder.allRequests().withRequestBody(bodyPattern).build();
+    }
+}
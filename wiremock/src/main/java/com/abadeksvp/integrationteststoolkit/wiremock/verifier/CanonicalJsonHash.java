@@ -0,0 +1,135 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The CanonicalJsonHash class computes hashes of JSON documents that do not depend on the order of object fields and
+ * on the whitespace. Documents that are equal for JSONAssert in the STRICT mode always have equal hashes, so a request
+ * body with a different hash cannot match the expected body and does not need to be compared.
+ * <p>
+ * The hashes of the request bodies are cached by the {@link BodyDigest digests} of the bodies, so every body of the
+ * request journal is parsed once however many verifications and verification attempts look at it, while the cache
+ * does not keep the bodies themselves.
+ */
+final class CanonicalJsonHash {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // an entry takes about 200 bytes, so the cache stays within a few megabytes whatever the size of the bodies
+    private static final int MAXIMUM_ENTRIES = 16 * 1024;
+    private static final LinkedHashMap<BodyDigest, OptionalLong> BODY_HASHES = new LinkedHashMap<>(16, 0.75f, true);
+
+    private CanonicalJsonHash() {
+    }
+
+    /**
+     * Computes the canonical hash of the expected JSON content.
+     *
+     * @param content the expected JSON content
+     * @return the canonical hash, or <code>null</code> if the content is not a JSON object or array
+     */
+    static Long of(String content) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(content);
+            return node != null && node.isContainerNode() ? hash(node) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the request body with the given digest may be equal to the JSON with the given canonical hash.
+     *
+     * @param digest        the digest of the request body
+     * @param body          the supplier of the request body, only called if the hash of the body is not cached
+     * @param canonicalHash the canonical hash of the expected JSON
+     * @return <code>false</code> if the body is a JSON document that is not equal to the expected JSON
+     */
+    static boolean mayEqual(BodyDigest digest, Supplier<byte[]> body, long canonicalHash) {
+        OptionalLong bodyHash = bodyHash(digest, body);
+        // the bodies Jackson cannot read are left to the lenient org.json parser of JSONAssert
+        return bodyHash.isEmpty() || bodyHash.getAsLong() == canonicalHash;
+    }
+
+    private static OptionalLong bodyHash(BodyDigest digest, Supplier<byte[]> body) {
+        synchronized (BODY_HASHES) {
+            OptionalLong cached = BODY_HASHES.get(digest);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // computed outside the lock so that large bodies do not block the other verifications
+        OptionalLong bodyHash = computeHash(body.get());
+        synchronized (BODY_HASHES) {
+            BODY_HASHES.put(digest, bodyHash);
+            Iterator<BodyDigest> leastRecentlyUsed = BODY_HASHES.keySet().iterator();
+            while (BODY_HASHES.size() > MAXIMUM_ENTRIES) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+        return bodyHash;
+    }
+
+    private static OptionalLong computeHash(byte[] body) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(body);
+            return node == null || node.isMissingNode() ? OptionalLong.empty() : OptionalLong.of(hash(node));
+        } catch (IOException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static long hash(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                // the fields are summed up, so their order does not matter
+                long hash = 0x6F626A656374L + node.size();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    hash += mix(field.getKey().hashCode() * 0x9E3779B97F4A7C15L + hash(field.getValue()));
+                }
+                return mix(hash);
+            }
+            case ARRAY -> {
+                long hash = 0x6172726179L;
+                for (JsonNode element : node) {
+                    hash = hash * 31 + hash(element);
+                }
+                return mix(hash);
+            }
+            case NUMBER -> {
+                // JSONAssert compares the numbers by their double values, so 1 and 1.0 are equal
+                double value = node.doubleValue();
+                return mix(Double.doubleToLongBits(value == 0 ? 0.0 : value) ^ 0x6E756D626572L);
+            }
+            case STRING -> {
+                return mix(node.textValue().hashCode() ^ 0x737472696E67L);
+            }
+            case BOOLEAN -> {
+                return node.booleanValue() ? 1 : 2;
+            }
+            case NULL -> {
+                return 3;
+            }
+            default -> {
+                return mix(node.hashCode());
+            }
+        }
+    }
+
+    // the finalizer of SplitMix64, spreads the bits so that the sums of the object fields rarely collide
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
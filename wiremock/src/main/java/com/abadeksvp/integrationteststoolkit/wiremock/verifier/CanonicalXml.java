@@ -0,0 +1,213 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The CanonicalXml class is an expected XML document parsed once into a canonical sequence of tokens: elements are
+ * identified by their namespace and local name, attributes are compared regardless of their order, text is trimmed,
+ * and comments, processing instructions and whitespace between elements are left out. The request bodies are read with
+ * a streaming StAX reader and compared token by token, so no DOM is built and the comparison stops at the first
+ * difference.
+ * <p>
+ * The ignored elements must be present, but their attributes and content are not compared. The ignored attributes are
+ * not compared at all.
+ */
+final class CanonicalXml {
+
+    // the factory is only configured here, creating readers from it concurrently is safe
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final List<Token> tokens;
+    private final Set<String> ignoredElements;
+    private final Set<String> ignoredAttributes;
+
+    private CanonicalXml(List<Token> tokens, Set<String> ignoredElements, Set<String> ignoredAttributes) {
+        this.tokens = tokens;
+        this.ignoredElements = ignoredElements;
+        this.ignoredAttributes = ignoredAttributes;
+    }
+
+    /**
+     * Parses the expected XML document.
+     *
+     * @param content           the expected XML document
+     * @param ignoredElements   the local names of the elements whose attributes and content are not compared
+     * @param ignoredAttributes the local names of the attributes that are not compared
+     * @return the canonical form of the document
+     * @throws IllegalArgumentException if the content is not a well-formed XML document
+     */
+    static CanonicalXml parse(String content, Set<String> ignoredElements, Set<String> ignoredAttributes) {
+        List<Token> tokens = new ArrayList<>();
+        try {
+            Tokenizer tokenizer = new Tokenizer(INPUT_FACTORY.createXMLStreamReader(new StringReader(content)),
+                    ignoredElements, ignoredAttributes);
+            try {
+                for (Token token = tokenizer.next(); token != null; token = tokenizer.next()) {
+                    tokens.add(token);
+                }
+            } finally {
+                tokenizer.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Expected body is not a well-formed XML document", e);
+        }
+        return new CanonicalXml(List.copyOf(tokens), ignoredElements, ignoredAttributes);
+    }
+
+    /**
+     * Checks whether the given body is equal to the expected document.
+     *
+     * @param body the raw bytes of the body, the encoding is detected from the XML declaration
+     * @return <code>true</code> if the body is a well-formed XML document equal to the expected one
+     */
+    boolean matches(byte[] body) {
+        if (body == null || body.length == 0) {
+            return false;
+        }
+        try {
+            Tokenizer actual = new Tokenizer(INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(body)),
+                    ignoredElements, ignoredAttributes);
+            try {
+                for (Token expected : tokens) {
+                    if (!expected.equals(actual.next())) {
+                        return false;
+                    }
+                }
+                return actual.next() == null;
+            } finally {
+                actual.close();
+            }
+        } catch (XMLStreamException e) {
+            return false;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        // the bodies come from the tested application, so they must not make the reader load external resources
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return inputFactory;
+    }
+
+    private sealed interface Token permits Start, Text, End {
+    }
+
+    private record Start(String namespace, String name, Map<String, String> attributes, boolean ignored)
+            implements Token {
+    }
+
+    private record Text(String text) implements Token {
+    }
+
+    private record End() implements Token {
+    }
+
+    /**
+     * Reads the canonical tokens of a document one by one.
+     */
+    private static final class Tokenizer {
+
+        private static final End END = new End();
+
+        private final XMLStreamReader reader;
+        private final Set<String> ignoredElements;
+        private final Set<String> ignoredAttributes;
+        private final StringBuilder text = new StringBuilder();
+        // the token read after a text, returned by the next call
+        private Token pending;
+
+        private Tokenizer(XMLStreamReader reader, Set<String> ignoredElements, Set<String> ignoredAttributes) {
+            this.reader = reader;
+            this.ignoredElements = ignoredElements;
+            this.ignoredAttributes = ignoredAttributes;
+        }
+
+        /**
+         * @return the next token, or <code>null</code> at the end of the document
+         */
+        private Token next() throws XMLStreamException {
+            if (pending != null) {
+                Token token = pending;
+                pending = null;
+                return token;
+            }
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        return textBefore(start());
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        return textBefore(END);
+                    }
+                    default -> {
+                        // comments, processing instructions and the document type are not compared
+                    }
+                }
+            }
+            return textBefore(null);
+        }
+
+        private Token textBefore(Token token) {
+            String value = text.toString().trim();
+            text.setLength(0);
+            if (value.isEmpty()) {
+                return token;
+            }
+            pending = token;
+            return new Text(value);
+        }
+
+        private Start start() throws XMLStreamException {
+            String namespace = reader.getNamespaceURI() == null ? "" : reader.getNamespaceURI();
+            String name = reader.getLocalName();
+            if (ignoredElements.contains(name)) {
+                skipElement();
+                return new Start(namespace, name, Map.of(), true);
+            }
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String attributeName = reader.getAttributeLocalName(i);
+                if (!ignoredAttributes.contains(attributeName)) {
+                    String attributeNamespace = reader.getAttributeNamespace(i);
+                    String key = attributeNamespace == null || attributeNamespace.isEmpty()
+                            ? attributeName
+                            : "{" + attributeNamespace + "}" + attributeName;
+                    attributes.put(key, reader.getAttributeValue(i));
+                }
+            }
+            return new Start(namespace, name, attributes, false);
+        }
+
+        private void skipElement() throws XMLStreamException {
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        }
+
+        private void close() throws XMLStreamException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.util.List;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+/**
+ * The CountingRequestBodyVerifier interface represents a request body verifier that matches every logged request on
+ * its own and compares the number of matched requests with the expected number of interactions. Since the matches of
+ * different requests are independent, the requests can be matched in parts, e.g. only the requests logged since the
+ * previous verification attempt.
+ */
+public interface CountingRequestBodyVerifier extends RequestBodyVerifier {
+
+    /**
+     * Counts the logged requests whose body matches this verifier.
+     *
+     * @param requests the list of logged requests to match
+     * @return the number of matched requests
+     */
+    int countMatches(List<LoggedRequest> requests);
+
+    /**
+     * Verifies that the number of matched requests satisfies the given WireMockVerificationSpec object.
+     *
+     * @param spec                  the WireMockVerificationSpec object specifying the verification criteria
+     * @param requests              the list of logged requests the matches were counted in, used to report the
+     *                              closest requests if none matches
+     * @param actualCount           the number of matched requests
+     * @param requestPatternBuilder the request pattern builder used to define the request criteria
+     */
+    void verifyCount(WireMockVerificationSpec spec, List<LoggedRequest> requests, int actualCount,
+            RequestPatternBuilder requestPatternBuilder);
+
+    @Override
+    default void verify(WireMockVerificationSpec spec, List<LoggedRequest> requests,
+            RequestPatternBuilder requestPatternBuilder) {
+        verifyCount(spec, requests, countMatches(requests), requestPatternBuilder);
+    }
+}
@@ -0,0 +1,167 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import com.abadeksvp.integrationteststoolkit.IgnoredPaths;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+/**
+ * A JsonComparisonEngine that reads the raw bytes of the request bodies into Jackson trees and compares them with the
+ * same rules as JSONAssert:
+ * <ul>
+ *     <li>the compare mode defines whether the actual objects may have fields that are not expected and whether the
+ *     order of array elements matters;</li>
+ *     <li>numbers are equal if their values are equal, e.g. <code>1</code> and <code>1.0</code>;</li>
+ *     <li>the values of the ignored fields are not compared, but the fields must be present. The ignored fields are
+ *     paths such as <code>id</code>, <code>items[0].id</code> or <code>**.id</code>, as in
+ *     {@link com.abadeksvp.integrationteststoolkit.JsonAssertUtils#withCompareRules}. Array elements are identified
+ *     by their index in the expected array, also in the arrays compared regardless of the order, where JSONAssert
+ *     identifies the elements of arrays of objects by their unique key, e.g. <code>items[id=1].name</code>, and the
+ *     fields of other elements by their paths from the element.</li>
+ * </ul>
+ * Reading the bytes directly avoids decoding the bodies into strings, and Jackson trees are much cheaper to build than
+ * <code>org.json</code> objects, which makes a difference for large bodies. Jackson detects the UTF encodings by
+ * itself, so only the bodies in other charsets of their content type are decoded into strings first.
+ */
+public class JacksonComparisonEngine implements JsonComparisonEngine {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JSONCompareMode compareMode;
+    private final IgnoredPaths ignoredFields;
+
+    /**
+     * Creates an engine with the given compare mode and fields to ignore during comparison.
+     *
+     * @param compareMode   the compare mode to use during comparison
+     * @param ignoredFields the paths of the fields to ignore during comparison
+     */
+    public JacksonComparisonEngine(JSONCompareMode compareMode, String... ignoredFields) {
+        this.compareMode = compareMode;
+        this.ignoredFields = IgnoredPaths.of(ignoredFields);
+    }
+
+    @Override
+    public Predicate<LoggedRequest> compile(String expectedJson) {
+        JsonNode expected = readTree(expectedJson);
+        if (expected == null || !expected.isContainerNode() && !expected.isValueNode()) {
+            return request -> false;
+        }
+        String rootPath = ignoredFields.isEmpty() ? null : "";
+        return request -> {
+            byte[] body = request.getBody();
+            JsonNode actual = body == null || body.length == 0 ? null : readTree(body, charsetOf(request));
+            return actual != null && matches(rootPath, expected, actual);
+        };
+    }
+
+    // the path is only built when there are ignored fields to match it with
+    private boolean matches(String path, JsonNode expected, JsonNode actual) {
+        if (path != null && !path.isEmpty() && ignoredFields.matches(path)) {
+            return true;
+        }
+        if (expected.isObject()) {
+            return actual.isObject() && objectMatches(path, expected, actual);
+        }
+        if (expected.isArray()) {
+            return actual.isArray() && expected.size() == actual.size() && arrayMatches(path, expected, actual);
+        }
+        if (expected.isNumber() && actual.isNumber()) {
+            return expected.doubleValue() == actual.doubleValue();
+        }
+        return expected.equals(actual);
+    }
+
+    private boolean objectMatches(String path, JsonNode expected, JsonNode actual) {
+        // every expected field must be present, so equal sizes mean there are no unexpected fields
+        if (!compareMode.isExtensible() && expected.size() != actual.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode actualValue = actual.get(field.getKey());
+            if (actualValue == null || !matches(fieldPath(path, field.getKey()), field.getValue(), actualValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean arrayMatches(String path, JsonNode expected, JsonNode actual) {
+        if (compareMode.hasStrictOrder()) {
+            for (int i = 0; i < expected.size(); i++) {
+                if (!matches(elementPath(path, i), expected.get(i), actual.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // every expected element is matched with the first unmatched equal actual element, as JSONAssert does
+        boolean[] matched = new boolean[actual.size()];
+        for (int i = 0; i < expected.size(); i++) {
+            String elementPath = elementPath(path, i);
+            boolean found = false;
+            for (int j = 0; j < actual.size() && !found; j++) {
+                if (!matched[j] && matches(elementPath, expected.get(i), actual.get(j))) {
+                    matched[j] = true;
+                    found = true;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String fieldPath(String path, String field) {
+        if (path == null) {
+            return null;
+        }
+        return path.isEmpty() ? field : path + "." + field;
+    }
+
+    private static String elementPath(String path, int index) {
+        return path == null ? null : path + "[" + index + "]";
+    }
+
+    private static JsonNode readTree(String content) {
+        try {
+            return OBJECT_MAPPER.readTree(content);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static JsonNode readTree(byte[] content, Charset charset) {
+        if (charset != null && !charset.name().startsWith("UTF-")) {
+            return readTree(new String(content, charset));
+        }
+        try {
+            return OBJECT_MAPPER.readTree(content);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // the charset of the content type of the request, UTF-8 if it is not given, or null if it is not supported
+    private static Charset charsetOf(LoggedRequest request) {
+        ContentTypeHeader contentTypeHeader = request.contentTypeHeader();
+        try {
+            return contentTypeHeader != null ? contentTypeHeader.charset() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.util.function.Predicate;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+import org.skyscreamer.jsonassert.JSONCompare;
+import org.skyscreamer.jsonassert.JSONParser;
+import org.skyscreamer.jsonassert.comparator.CustomComparator;
+
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import lombok.SneakyThrows;
+
+/**
+ * A JsonComparisonEngine that compares the request bodies with JSONAssert, using the given comparator.
+ */
+public class JsonAssertComparisonEngine implements JsonComparisonEngine {
+
+    private final CustomComparator customComparator;
+
+    public JsonAssertComparisonEngine(CustomComparator customComparator) {
+        this.customComparator = customComparator;
+    }
+
+    @Override
+    public Predicate<LoggedRequest> compile(String expectedJson) {
+        Object expected = parseJson(expectedJson);
+        if (expected == null) {
+            return request -> false;
+        }
+        return request -> matches(expected, parseJson(request.getBodyAsString()));
+    }
+
+    @SneakyThrows
+    private boolean matches(Object expectedJson, Object actualJson) {
+        if (expectedJson instanceof JSONObject expected && actualJson instanceof JSONObject actual) {
+            return JSONCompare.compareJSON(expected, actual, customComparator).passed();
+        }
+        if (expectedJson instanceof JSONArray expected && actualJson instanceof JSONArray actual) {
+            return JSONCompare.compareJSON(expected, actual, customComparator).passed();
+        }
+        if (expectedJson instanceof JSONString expected && actualJson instanceof JSONString actual) {
+            return JSONCompare.compareJson(expected, actual).passed();
+        }
+        return false;
+    }
+
+    private static Object parseJson(String content) {
+        try {
+            return JSONParser.parseJSON(content);
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+}
@@ -1,93 +1,118 @@
 package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
-import org.json.JSONException;
-import org.skyscreamer.jsonassert.JSONCompare;
-import org.skyscreamer.jsonassert.JSONCompareResult;
-import org.skyscreamer.jsonassert.JSONParser;
+import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.skyscreamer.jsonassert.comparator.CustomComparator;
 
 import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
-import com.github.tomakehurst.wiremock.client.VerificationException;
 import com.github.tomakehurst.wiremock.client.WireMock;
-import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
-import com.github.tomakehurst.wiremock.verification.NearMiss;
-import com.github.tomakehurst.wiremock.verification.diff.Diff;
 
 import lombok.Getter;
-import lombok.SneakyThrows;
 
-import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.allRequests;
+public class JsonBodyVerifier implements CountingRequestBodyVerifier {
 
-public class JsonBodyVerifier implements RequestBodyVerifier {
+    // below this number of distinct bodies splitting the work costs more than it saves
+    private static final int PARALLEL_MATCHING_THRESHOLD = 64;
 
     @Getter
     private final String content;
-    private final CustomComparator customComparator;
+    // compiled once, null if there is no content to match
+    private final Predicate<LoggedRequest> bodyMatcher;
+    // null unless the bodies must be exactly equal to the content
+    private final Long canonicalHash;
+    private final boolean parallel;
+
+    /**
+     * Creates a verifier that matches the request bodies that are exactly equal to the expected JSON, as in the
+     * JSONAssert STRICT mode. The bodies are first looked up by their {@link CanonicalJsonHash canonical hash}, so only
+     * the bodies with the same hash as the expected JSON are compared.
+     *
+     * @param content the JSON content of the request body
+     */
+    public JsonBodyVerifier(String content) {
+        this(content, new JsonAssertComparisonEngine(new CustomComparator(JSONCompareMode.STRICT)),
+                content == null ? null : CanonicalJsonHash.of(content));
+    }
 
     public JsonBodyVerifier(String content, CustomComparator customComparator) {
+        this(content, new JsonAssertComparisonEngine(customComparator));
+    }
+
+    /**
+     * Creates a verifier that compares the request bodies with the expected JSON using the given engine, e.g.
+     * {@link JacksonComparisonEngine} for large bodies.
+     *
+     * @param content          the JSON content of the request body
+     * @param comparisonEngine the engine to compare the request bodies with
+     */
+    public JsonBodyVerifier(String content, JsonComparisonEngine comparisonEngine) {
+        this(content, comparisonEngine, null);
+    }
+
+    private JsonBodyVerifier(String content, JsonComparisonEngine comparisonEngine, Long canonicalHash) {
+        this(content, content == null ? null : comparisonEngine.compile(content), canonicalHash, false);
+    }
+
+    private JsonBodyVerifier(String content, Predicate<LoggedRequest> bodyMatcher, Long canonicalHash,
+            boolean parallel) {
         this.content = content;
-        this.customComparator = customComparator;
+        this.bodyMatcher = bodyMatcher;
+        this.canonicalHash = canonicalHash;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Creates a copy of this verifier that compares the logged request bodies in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}. Useful when the request journal holds a large number of requests;
+     * the number of matched requests is the same as for sequential matching.
+     *
+     * @return the JsonBodyVerifier that matches the request bodies in parallel
+     */
+    public JsonBodyVerifier inParallel() {
+        return new JsonBodyVerifier(content, bodyMatcher, canonicalHash, true);
     }
 
     @Override
-    @SneakyThrows
-    public void verify(WireMockVerificationSpec spec, List<LoggedRequest> requests,
+    public void verifyCount(WireMockVerificationSpec spec, List<LoggedRequest> requests, int actualCount,
             RequestPatternBuilder requestPatternBuilder) {
-        String expectedRequest = content;
-        if (expectedRequest == null) {
+        if (content == null) {
             return;
         }
-        int actualMatched = 0;
-        for (LoggedRequest request : requests) {
-            String actualRequest = request.getBodyAsString();
-            if (StringUtils.isEmpty(actualRequest)) {
-                continue;
-            }
-            if (!isJson(actualRequest) || !isJson(expectedRequest)) {
-                continue;
-            }
-            JSONCompareResult result = JSONCompare.compareJSON(expectedRequest, actualRequest, this.customComparator);
-            if (result.passed()) {
-                actualMatched++;
-            }
-        }
-        if (!spec.getNumberOfInteractions().match(actualMatched)) {
-            throw buildCountValidationException(spec, expectedRequest, requestPatternBuilder, actualMatched);
-        }
+        BodyMatchCounts.verifyCount(spec, requests, actualCount, requestPatternBuilder, WireMock.equalTo(content));
     }
 
-    private boolean isJson(String content) {
-        try {
-            JSONParser.parseJSON(content);
-            return true;
-        } catch (JSONException e) {
-            return false;
+    @Override
+    public int countMatches(List<LoggedRequest> requests) {
+        if (bodyMatcher == null) {
+            return 0;
         }
-    }
-
-    private VerificationException buildCountValidationException(WireMockVerificationSpec spec,
-            String expectedRequest, RequestPatternBuilder requestPatternBuilder, int actualCount) {
-        RequestPattern requestPattern = requestPatternBuilder.build();
-        return actualCount == 0
-                ? verificationExceptionForNearMisses(requestPatternBuilder, expectedRequest)
-                : new VerificationException(requestPattern, spec.getNumberOfInteractions(), actualCount);
-    }
-
-    private VerificationException verificationExceptionForNearMisses(RequestPatternBuilder requestPatternBuilder,
-            String expectedRequest) {
-        RequestPattern requestPattern = requestPatternBuilder.withRequestBody(WireMock.equalTo(expectedRequest))
-                .build();
-        List<NearMiss> nearMisses = WireMock.findNearMissesFor(requestPatternBuilder);
-        if (nearMisses.size() > 0) {
-            Diff diff = new Diff(requestPattern, nearMisses.get(0).getRequest());
-            return VerificationException.forUnmatchedRequestPattern(diff);
+        // the same body is often sent many times, so each distinct body is parsed and compared only once; the bodies
+        // are grouped by their digests, so only one body is on the heap at a time even if they are read from files
+        Map<BodyDigest, List<LoggedRequest>> bodies = new HashMap<>();
+        for (LoggedRequest request : requests) {
+            byte[] body = request.getBody();
+            if (body != null && body.length > 0) {
+                bodies.computeIfAbsent(BodyDigest.of(body), key -> new ArrayList<>()).add(request);
+            }
         }
-
-        return new VerificationException(requestPattern, WireMock.findAll(allRequests()));
+        Stream<Map.Entry<BodyDigest, List<LoggedRequest>>> distinctBodies =
+                parallel && bodies.size() >= PARALLEL_MATCHING_THRESHOLD
+                        ? bodies.entrySet().parallelStream()
+                        : bodies.entrySet().stream();
+        return distinctBodies
+                .filter(body -> canonicalHash == null || CanonicalJsonHash.mayEqual(body.getKey(),
+                        body.getValue().get(0)::getBody, canonicalHash))
+                .map(Map.Entry::getValue)
+                .filter(sameBodyRequests -> bodyMatcher.test(sameBodyRequests.get(0)))
+                .mapToInt(List::size)
+                .sum();
     }
 }
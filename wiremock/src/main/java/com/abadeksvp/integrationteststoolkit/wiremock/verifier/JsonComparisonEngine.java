@@ -0,0 +1,21 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.util.function.Predicate;
+
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+/**
+ * The JsonComparisonEngine interface represents the way a JsonBodyVerifier compares the bodies of the logged requests
+ * with the expected JSON.
+ */
+public interface JsonComparisonEngine {
+
+    /**
+     * Prepares the comparison of request bodies with the given expected JSON. The expected JSON is parsed once and the
+     * returned matcher is used for all the logged requests, possibly from several threads at once.
+     *
+     * @param expectedJson the expected JSON content of the request body
+     * @return the matcher of the request bodies, never matching if the expected content is not a valid JSON
+     */
+    Predicate<LoggedRequest> compile(String expectedJson);
+}
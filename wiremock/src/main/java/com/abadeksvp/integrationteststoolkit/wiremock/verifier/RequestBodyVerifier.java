@@ -2,6 +2,7 @@ package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
 
 import java.util.List;
 
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockOperations;
 import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
@@ -19,4 +20,18 @@ public interface RequestBodyVerifier {
      * @param requestPatternBuilder the request pattern builder used to define the request criteria
      */
     void verify(WireMockVerificationSpec spec, List<LoggedRequest> requests, RequestPatternBuilder requestPatternBuilder);
+
+    /**
+     * Verifies the requests based on the given WireMockVerificationSpec object, using the given WireMock operations to
+     * query the server the requests were sent to. By default the operations are not used.
+     *
+     * @param spec                  the WireMockVerificationSpec object specifying the verification criteria
+     * @param requests              the list of logged requests to verify
+     * @param requestPatternBuilder the request pattern builder used to define the request criteria
+     * @param wireMock              the operations of the WireMock server the requests were sent to
+     */
+    default void verify(WireMockVerificationSpec spec, List<LoggedRequest> requests,
+            RequestPatternBuilder requestPatternBuilder, WireMockOperations wireMock) {
+        verify(spec, requests, requestPatternBuilder);
+    }
 }
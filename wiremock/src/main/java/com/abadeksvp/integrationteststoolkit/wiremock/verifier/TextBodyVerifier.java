@@ -3,25 +3,42 @@ package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
 import java.util.List;
 
 import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
-import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.matching.ContentPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 
-public class TextBodyVerifier implements RequestBodyVerifier {
+/**
+ * The TextBodyVerifier class matches the bodies of the already fetched requests with a content pattern and compares
+ * the number of matched requests with the expected number of interactions, as JsonBodyVerifier does.
+ */
+public class TextBodyVerifier implements CountingRequestBodyVerifier {
 
     private final ContentPattern content;
+    // null if there is no content to match
+    private final RequestPattern bodyPattern;
 
     public TextBodyVerifier(ContentPattern content) {
         this.content = content;
+        this.bodyPattern = content == null ? null : BodyMatchCounts.bodyOnly(content);
     }
 
     @Override
-    public void verify(WireMockVerificationSpec spec, List<LoggedRequest> requests,
+    public int countMatches(List<LoggedRequest> requests) {
+        if (bodyPattern == null) {
+            return 0;
+        }
+        return (int) requests.stream()
+                .filter(request -> bodyPattern.match(request).isExactMatch())
+                .count();
+    }
+
+    @Override
+    public void verifyCount(WireMockVerificationSpec spec, List<LoggedRequest> requests, int actualCount,
             RequestPatternBuilder requestPatternBuilder) {
         if (content == null) {
             return;
         }
-        WireMock.verify(requestPatternBuilder.withRequestBody(content));
+        BodyMatchCounts.verifyCount(spec, requests, actualCount, requestPatternBuilder, content);
     }
 }
@@ -1,24 +1,85 @@
 package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.matching.EqualToXmlPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 
-public class XmlBodyVerifier implements RequestBodyVerifier {
+/**
+ * The XmlBodyVerifier class matches the bodies of the already fetched requests with an XML pattern and compares the
+ * number of matched requests with the expected number of interactions, as JsonBodyVerifier does.
+ */
+public class XmlBodyVerifier implements CountingRequestBodyVerifier {
 
     private final EqualToXmlPattern equalToXmlPattern;
+    // null if there is no content to match
+    private final Predicate<LoggedRequest> bodyMatcher;
 
     public XmlBodyVerifier(EqualToXmlPattern equalToXmlPattern) {
         this.equalToXmlPattern = equalToXmlPattern;
+        if (equalToXmlPattern == null) {
+            this.bodyMatcher = null;
+        } else {
+            RequestPattern bodyPattern = BodyMatchCounts.bodyOnly(equalToXmlPattern);
+            this.bodyMatcher = request -> bodyPattern.match(request).isExactMatch();
+        }
+    }
+
+    /**
+     * Creates a verifier that parses the expected document once and compares the request bodies with it in a single
+     * streaming pass, without building a DOM of every body. The order of attributes, namespace prefixes, comments and
+     * whitespace between elements do not matter. Useful for large documents, e.g. SOAP messages.
+     *
+     * @param content      the expected XML document
+     * @param ignoredNodes the local names of the ignored elements, which must be present but whose attributes and
+     *                     content are not compared, and of the ignored attributes prefixed with <code>@</code>, e.g.
+     *                     <code>MessageID</code> or <code>@timestamp</code>; the names match the nodes of any
+     *                     namespace
+     * @throws IllegalArgumentException if the content is not a well-formed XML document
+     */
+    public XmlBodyVerifier(String content, String... ignoredNodes) {
+        if (content == null) {
+            this.equalToXmlPattern = null;
+            this.bodyMatcher = null;
+            return;
+        }
+        Set<String> ignoredElements = Arrays.stream(ignoredNodes)
+                .filter(node -> !node.startsWith("@"))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> ignoredAttributes = Arrays.stream(ignoredNodes)
+                .filter(node -> node.startsWith("@"))
+                .map(node -> node.substring(1))
+                .collect(Collectors.toUnmodifiableSet());
+        CanonicalXml expected = CanonicalXml.parse(content, ignoredElements, ignoredAttributes);
+        // only used to report the closest request if none matches
+        this.equalToXmlPattern = WireMock.equalToXml(content);
+        this.bodyMatcher = request -> expected.matches(request.getBody());
+    }
+
+    @Override
+    public int countMatches(List<LoggedRequest> requests) {
+        if (bodyMatcher == null) {
+            return 0;
+        }
+        return (int) requests.stream()
+                .filter(bodyMatcher)
+                .count();
     }
 
     @Override
-    public void verify(WireMockVerificationSpec spec, List<LoggedRequest> requests,
+    public void verifyCount(WireMockVerificationSpec spec, List<LoggedRequest> requests, int actualCount,
             RequestPatternBuilder requestPatternBuilder) {
-        WireMock.verify(requestPatternBuilder.withRequestBody(equalToXmlPattern));
+        if (equalToXmlPattern == null) {
+            return;
+        }
+        BodyMatchCounts.verifyCount(spec, requests, actualCount, requestPatternBuilder, equalToXmlPattern);
     }
 }
@@ -0,0 +1,106 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class BoundedRequestJournalTest {
+
+    @Test
+    @DisplayName("Bodies above the threshold are spilled to files and read back from them")
+    void largeBodiesAreSpilledTest() {
+        try (BoundedRequestJournal journal = new BoundedRequestJournal(10, 4)) {
+            journal.requestReceived(request("/small", "{}"), null);
+            journal.requestReceived(request("/large", "{\"name\": \"large\"}"), null);
+
+            List<LoggedRequest> requests = journal.getRequests();
+            assertThat(requests).extracting(LoggedRequest::getUrl).containsExactly("/small", "/large");
+            assertThat(requests.get(0)).isNotInstanceOf(SpilledLoggedRequest.class);
+            SpilledLoggedRequest spilledRequest = (SpilledLoggedRequest) requests.get(1);
+            assertThat(spilledRequest.getBodyFile()).hasContent("{\"name\": \"large\"}");
+            assertThat(spilledRequest.getBody()).isEqualTo("{\"name\": \"large\"}".getBytes(StandardCharsets.UTF_8));
+            assertThat(spilledRequest.getBodyAsString()).isEqualTo("{\"name\": \"large\"}");
+            assertThat(spilledRequest.getParts()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Bodies of a snapshot can be read after the requests are evicted and the journal is reset")
+    void snapshotBodiesSurviveEvictionAndResetTest() {
+        try (BoundedRequestJournal journal = new BoundedRequestJournal(2, 4)) {
+            journal.requestReceived(request("/first", "first body"), null);
+            journal.requestReceived(request("/second", "second body"), null);
+            List<LoggedRequest> snapshot = journal.getRequests();
+
+            journal.requestReceived(request("/third", "third body"), null);
+            assertThat(journal.getRequests()).extracting(LoggedRequest::getUrl).containsExactly("/second", "/third");
+            journal.reset();
+
+            assertThat(journal.getRequests()).isEmpty();
+            assertThat(snapshot).extracting(LoggedRequest::getBodyAsString)
+                    .containsExactly("first body", "second body");
+        }
+    }
+
+    @Test
+    @DisplayName("Spilled bodies of the evicted and reset requests are deleted once the requests are unreachable")
+    void spilledBodiesAreDeletedOnceUnreachableTest() {
+        try (BoundedRequestJournal journal = new BoundedRequestJournal(2, 4)) {
+            journal.requestReceived(request("/first", "first body"), null);
+            Path firstBodyFile = spilledBodyFiles(journal).get(0);
+            journal.requestReceived(request("/second", "second body"), null);
+            journal.requestReceived(request("/third", "third body"), null);
+            List<Path> resetBodyFiles = spilledBodyFiles(journal);
+
+            journal.reset();
+
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                System.gc();
+                assertThat(firstBodyFile).doesNotExist();
+                assertThat(resetBodyFiles).allSatisfy(bodyFile -> assertThat(bodyFile).doesNotExist());
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Spilled bodies and their directory are deleted on close")
+    void spilledBodiesAreDeletedOnCloseTest() {
+        BoundedRequestJournal journal = new BoundedRequestJournal(10, 4);
+        journal.requestReceived(request("/first", "first body"), null);
+        List<LoggedRequest> snapshot = journal.getRequests();
+        Path firstBodyFile = ((SpilledLoggedRequest) snapshot.get(0)).getBodyFile();
+
+        journal.close();
+
+        assertThat(journal.getRequests()).isEmpty();
+        assertThat(firstBodyFile).doesNotExist();
+        assertThat(firstBodyFile.getParent()).doesNotExist();
+    }
+
+    private static List<Path> spilledBodyFiles(BoundedRequestJournal journal) {
+        return journal.getRequests().stream()
+                .filter(SpilledLoggedRequest.class::isInstance)
+                .map(request -> ((SpilledLoggedRequest) request).getBodyFile())
+                .toList();
+    }
+
+    private static LoggedRequest request(String url, String body) {
+        return new LoggedRequest(url, "http://localhost" + url, RequestMethod.POST, "127.0.0.1",
+                new HttpHeaders(new HttpHeader("Content-Type", "application/json")), Map.of(), false, new Date(),
+                body.getBytes(StandardCharsets.UTF_8), null, "HTTP/1.1");
+    }
+}
@@ -0,0 +1,133 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.CountingRequestBodyVerifier;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JournalCursorTest {
+
+    private RecordingBodyVerifier bodyVerifier;
+    private JournalCursor cursor;
+
+    @BeforeEach
+    void setUp() {
+        bodyVerifier = new RecordingBodyVerifier();
+        cursor = new JournalCursor(bodyVerifier);
+    }
+
+    @Test
+    @DisplayName("Next call matches only the requests logged since the previous call")
+    void nextCallMatchesOnlyNewRequestsTest() {
+        LoggedRequest first = request("/first", 1, true);
+        LoggedRequest second = request("/second", 2, false);
+        LoggedRequest third = request("/third", 3, true);
+        LoggedRequest fourth = request("/fourth", 4, true);
+
+        assertThat(cursor.countMatches(List.of(first, second))).isEqualTo(1);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(first, second);
+
+        assertThat(cursor.countMatches(List.of(first, second, third, fourth))).isEqualTo(3);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(second, third, fourth);
+
+        assertThat(cursor.countMatches(List.of(first, second, third, fourth))).isEqualTo(3);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(fourth);
+    }
+
+    @Test
+    @DisplayName("Requests logged at the date of the position are matched again on the next call")
+    void requestsAtPositionAreMatchedAgainTest() {
+        LoggedRequest first = request("/first", 1, false);
+        LoggedRequest second = request("/second", 2, true);
+        LoggedRequest sameMillisecond = request("/same-millisecond", 2, true);
+
+        assertThat(cursor.countMatches(List.of(first, second))).isEqualTo(1);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(first, second);
+
+        assertThat(cursor.countMatches(List.of(first, second, sameMillisecond))).isEqualTo(2);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(second, sameMillisecond);
+    }
+
+    @Test
+    @DisplayName("All the requests are matched again after the journal is reset")
+    void resetJournalIsRescannedTest() {
+        LoggedRequest first = request("/first", 1, true);
+        LoggedRequest second = request("/second", 2, true);
+        LoggedRequest third = request("/third", 3, true);
+        LoggedRequest afterReset = request("/after-reset", 5, false);
+
+        assertThat(cursor.countMatches(List.of(first, second, third))).isEqualTo(3);
+        bodyVerifier.matchedRequests();
+
+        assertThat(cursor.countMatches(List.of(afterReset))).isZero();
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(afterReset);
+        assertThat(cursor.countMatches(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("All the requests are matched again after the oldest requests are evicted from the journal")
+    void shrunkenJournalIsRescannedTest() {
+        LoggedRequest first = request("/first", 1, true);
+        LoggedRequest second = request("/second", 2, true);
+        LoggedRequest third = request("/third", 3, false);
+        LoggedRequest fourth = request("/fourth", 4, true);
+
+        assertThat(cursor.countMatches(List.of(first, second, third))).isEqualTo(2);
+        bodyVerifier.matchedRequests();
+
+        assertThat(cursor.countMatches(List.of(second, third, fourth))).isEqualTo(2);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(second, third, fourth);
+
+        assertThat(cursor.countMatches(List.of(second, third, fourth))).isEqualTo(2);
+        assertThat(bodyVerifier.matchedRequests()).containsExactly(fourth);
+    }
+
+    private static LoggedRequest request(String url, long loggedTime, boolean matching) {
+        return new LoggedRequest(url, "http://localhost" + url, RequestMethod.POST, "127.0.0.1", new HttpHeaders(),
+                Map.of(), false, new Date(loggedTime),
+                (matching ? "match" : "other").getBytes(StandardCharsets.UTF_8), null, "HTTP/1.1");
+    }
+
+    /**
+     * Matches the requests with the <code>match</code> body and records all the requests it was asked to match.
+     */
+    private static class RecordingBodyVerifier implements CountingRequestBodyVerifier {
+
+        private final List<LoggedRequest> matchedRequests = new ArrayList<>();
+
+        @Override
+        public int countMatches(List<LoggedRequest> requests) {
+            matchedRequests.addAll(requests);
+            return (int) requests.stream()
+                    .filter(request -> request.getBodyAsString().equals("match"))
+                    .count();
+        }
+
+        @Override
+        public void verifyCount(WireMockVerificationSpec spec, List<LoggedRequest> requests, int actualCount,
+                RequestPatternBuilder requestPatternBuilder) {
+        }
+
+        /**
+         * Returns the requests matched since the previous call, in the order they were matched.
+         */
+        List<LoggedRequest> matchedRequests() {
+            List<LoggedRequest> requests = List.copyOf(matchedRequests);
+            matchedRequests.clear();
+            return requests;
+        }
+    }
+}
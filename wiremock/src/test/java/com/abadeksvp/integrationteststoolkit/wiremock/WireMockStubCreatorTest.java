@@ -0,0 +1,148 @@
+package com.abadeksvp.integrationteststoolkit.wiremock;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.abadeksvp.integrationteststoolkit.wiremock.WireMockStubLoader.StubLoadReport;
+import com.abadeksvp.integrationteststoolkit.wiremock.helpers.TestRunnerConfig;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+@SpringBootTest(classes = TestRunnerConfig.class)
+@AutoConfigureWireMock(port = 0)
+public class WireMockStubCreatorTest {
+
+    @Value("${wiremock.server.port}")
+    private int wiremockPort;
+
+    @Autowired
+    private WireMockServer wireMockServer;
+
+    private WireMockStubCreator stubCreator;
+
+    @BeforeEach
+    void setUp() {
+        WireMock.resetAllRequests();
+        WireMock.removeAllMappings();
+        stubCreator = new WireMockStubCreator();
+    }
+
+    @Test
+    @DisplayName("Stubs created with a single import respond in the same way as stubs created one by one")
+    void createStubsTest() {
+        List<StubMapping> stubs = stubCreator.createStubs(List.of(
+                stubCreator.stub(RequestMethod.GET, urlEqualTo("/test"), "first"),
+                stubCreator.stub(RequestMethod.GET, urlEqualTo("/test"), "second"),
+                stubCreator.stubFromResource(RequestMethod.GET, urlEqualTo("/resource"), "/test-request-body.json")
+        ));
+
+        RestTemplate restTemplate = new RestTemplate();
+        assertThat(stubs).hasSize(3);
+        assertThat(WireMock.listAllStubMappings().getMappings()).hasSize(3);
+        assertThat(restTemplate.getForObject("http://localhost:" + wiremockPort + "/test", String.class))
+                .isEqualTo("second");
+        assertThat(restTemplate.getForObject("http://localhost:" + wiremockPort + "/resource", String.class))
+                .contains("\"key1\": \"val1\"");
+    }
+
+    @Test
+    @DisplayName("Stubs loaded from a classpath directory respond with the content of the files")
+    void loadStubsFromClasspathTest() {
+        StubLoadReport report = new WireMockStubLoader(stubCreator).loadFromClasspath("/stubs");
+
+        RestTemplate restTemplate = new RestTemplate();
+        assertThat(report.stubCount()).isEqualTo(2);
+        assertThat(restTemplate.getForObject("http://localhost:" + wiremockPort + "/api/users?page=1", String.class))
+                .contains("\"id\": 1");
+        ResponseEntity<String> response = restTemplate.postForEntity("http://localhost:" + wiremockPort + "/api/users",
+                "{}", String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).contains("\"id\": 2");
+    }
+
+    @Test
+    @DisplayName("Files of a classpath directory are found in all the classpath roots relative to their own root")
+    void classpathFileNamesFromAllRootsTest(@TempDir Path tempDir) throws IOException {
+        Path firstRoot = tempDir.resolve("first");
+        Path secondRoot = tempDir.resolve("second/stubs");
+        write(firstRoot.resolve("stubs/api/users/GET.json"), "[]");
+        write(secondRoot.resolve("stubs/api/orders/GET.json"), "[]");
+        write(secondRoot.resolve("stubs/api/users/GET.json"), "[]");
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{firstRoot.toUri().toURL(), secondRoot.toUri().toURL()}, null)) {
+            List<String> fileNames = WireMockStubLoader.classpathFileNames(
+                    new PathMatchingResourcePatternResolver(classLoader), "stubs");
+
+            assertThat(fileNames).containsExactly("api/orders/GET.json", "api/users/GET.json");
+        }
+    }
+
+    @Test
+    @DisplayName("Hidden, backup and unrelated files are skipped unless the loader is strict")
+    void loadStubsSkipsOtherFilesTest(@TempDir Path directory) throws IOException {
+        write(directory.resolve("api/users/GET.json"), "[]");
+        write(directory.resolve("api/users/.gitkeep"), "");
+        write(directory.resolve("api/users/GET.json~"), "[]");
+        write(directory.resolve("README.md"), "# Stubs");
+
+        WireMockStubLoader stubLoader = new WireMockStubLoader(stubCreator);
+        StubLoadReport report = stubLoader.loadFromDirectory(directory);
+
+        assertThat(report.stubCount()).isEqualTo(1);
+        assertThat(WireMock.listAllStubMappings().getMappings()).hasSize(1);
+
+        stubLoader.setStrict(true);
+        assertThatThrownBy(() -> stubLoader.loadFromDirectory(directory))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("README.md");
+        Files.delete(directory.resolve("README.md"));
+        assertThat(stubLoader.loadFromDirectory(directory).stubCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Stubs created directly on the in-process server respond in the same way as stubs created over HTTP")
+    void createStubsOnServerTest() {
+        WireMockStubCreator serverStubCreator = new WireMockStubCreator(wireMockServer);
+        serverStubCreator.createStub(RequestMethod.GET, urlEqualTo("/test"), "first");
+        serverStubCreator.createStubs(List.of(
+                serverStubCreator.stub(RequestMethod.GET, urlEqualTo("/other"), "second")
+        ));
+
+        RestTemplate restTemplate = new RestTemplate();
+        assertThat(WireMock.listAllStubMappings().getMappings()).hasSize(2);
+        assertThat(restTemplate.getForObject("http://localhost:" + wiremockPort + "/test", String.class))
+                .isEqualTo("first");
+        assertThat(restTemplate.getForObject("http://localhost:" + wiremockPort + "/other", String.class))
+                .isEqualTo("second");
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
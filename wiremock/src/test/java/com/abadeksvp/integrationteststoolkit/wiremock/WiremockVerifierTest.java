@@ -1,14 +1,26 @@
 package com.abadeksvp.integrationteststoolkit.wiremock;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 import org.awaitility.core.ConditionTimeoutException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -22,19 +34,37 @@ import com.abadeksvp.integrationteststoolkit.JsonAssertUtils;
 import com.abadeksvp.integrationteststoolkit.resource.ClasspathResourceReader;
 import com.abadeksvp.integrationteststoolkit.resource.ResourceReader;
 import com.abadeksvp.integrationteststoolkit.wiremock.helpers.TestRunnerConfig;
+import com.abadeksvp.integrationteststoolkit.wiremock.metrics.MicrometerVerificationMetrics;
+import com.abadeksvp.integrationteststoolkit.wiremock.tag.RequestTagInterceptor;
+import com.abadeksvp.integrationteststoolkit.wiremock.tag.RequestTags;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JacksonComparisonEngine;
+import com.abadeksvp.integrationteststoolkit.wiremock.verifier.JsonBodyVerifier;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.client.VerificationException;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.tomakehurst.wiremock.verification.NearMiss;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerificationSpec.requestedFor;
 import static com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerifier.verify;
+import static com.abadeksvp.integrationteststoolkit.wiremock.WireMockVerifier.verifyAll;
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.okForJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.options;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
@@ -49,6 +79,9 @@ public class WiremockVerifierTest {
     @Value("${wiremock.server.port}")
     private int wiremockPort;
 
+    @Autowired
+    private WireMockServer wireMockServer;
+
     private ResourceReader resourceReader;
 
     @BeforeEach
@@ -58,6 +91,11 @@ public class WiremockVerifierTest {
         resourceReader = new ClasspathResourceReader();
     }
 
+    @AfterEach
+    void tearDown() {
+        WireMockVerifier.unbind();
+    }
+
     @Test
     @DisplayName("Simple GET request verified correctly")
     void verifyEmptyGetRequestTest() {
@@ -127,6 +165,104 @@ public class WiremockVerifierTest {
         );
     }
 
+    @Test
+    @DisplayName("Async request will be awaited with request listener and verified correctly")
+    void verifyAwaitWithRequestListenerWorksCorrectlyTest() {
+        WireMockVerifier.bindTo(wireMockServer);
+        stubFor(WireMock.get("/test")
+                .willReturn(ok())
+        );
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            RestTemplate restTemplate = new RestTemplate();
+            restTemplate.getForEntity("http://localhost:" + wiremockPort + "/test",
+                    String.class);
+        });
+
+        verify(requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                .withNumberOfInteractions(exactly(1))
+                .waitAtMost(Duration.ofSeconds(5))
+        );
+    }
+
+    @Test
+    @DisplayName("Verification woken by the request listener sees the request written to the journal after it")
+    void verifyAwaitWithRequestListenerDoesNotMissDelayedJournalWriteTest() {
+        WireMockServer otherServer = new WireMockServer(WireMockConfiguration.wireMockConfig().dynamicPort());
+        otherServer.start();
+        try {
+            WireMockVerifier verifier = new WireMockVerifier(otherServer);
+            // the listeners are called in order before the journal write, this one delays the write after the wake-up
+            otherServer.addMockServiceRequestListener((request, response) -> {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            new WireMockStubCreator(otherServer).createEmptyStub(RequestMethod.GET, urlEqualTo("/delayed-journal"));
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.submit(() -> {
+                Thread.sleep(300);
+                return new RestTemplate().getForEntity("http://localhost:" + otherServer.port() + "/delayed-journal",
+                        String.class);
+            });
+
+            verifier.verifyThat(requestedFor(RequestMethod.GET, urlEqualTo("/delayed-journal"))
+                    .withNumberOfInteractions(exactly(1))
+                    .waitAtMost(Duration.ofSeconds(5))
+            );
+            // the request is seen by the re-checks after the wake-up, not by a fallback poll
+            assertThat(RequestJournalListener.of(otherServer).fallbackPolls()).isZero();
+        } finally {
+            otherServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Async request with json body will be awaited and verified correctly")
+    void verifyAwaitWithJsonBodyWorksCorrectlyTest() {
+        stubFor(post("/test")
+                .willReturn(ok())
+        );
+
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.postForEntity("http://localhost:" + wiremockPort + "/test", """
+                {
+                    "key1": "val1"
+                }
+                """, String.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            restTemplate.postForEntity("http://localhost:" + wiremockPort + "/test", """
+                    {
+                        "key2": "val2"
+                    }
+                    """, String.class);
+        });
+
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                .withNumberOfInteractions(moreThanOrExactly(1))
+                .withJsonBody("""
+                        {
+                            "key2": "val2"
+                        }
+                        """)
+                .waitAtMost(Duration.ofSeconds(5))
+        );
+    }
+
     @Test
     @DisplayName("Async request will be awaited and throws correct exception when verification fails")
     void verifyAsyncAwaitWorksCorrectlyWithCorrectExceptionTest() {
@@ -504,4 +640,591 @@ public class WiremockVerifierTest {
                 .withNumberOfInteractions(exactly(1))
         );
     }
+
+    @Test
+    @DisplayName("Several specs verified together report all failures")
+    void verifyAllReportsAllFailures() {
+        stubFor(WireMock.get("/test")
+                .willReturn(ok())
+        );
+        stubFor(post("/test")
+                .willReturn(ok())
+        );
+
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getForEntity("http://localhost:" + wiremockPort + "/test", String.class);
+        restTemplate.postForEntity("http://localhost:" + wiremockPort + "/test", """
+                {
+                    "key1": "val1"
+                }
+                """, String.class);
+
+        verifyAll(List.of(
+                requestedFor(RequestMethod.GET, urlEqualTo("/test")),
+                requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withJsonBody("""
+                                {
+                                    "key1": "val1"
+                                }
+                                """)
+        ));
+
+        assertThatThrownBy(
+                () -> verifyAll(List.of(
+                        requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                                .withNumberOfInteractions(exactly(2)),
+                        requestedFor(RequestMethod.GET, urlEqualTo("/test")),
+                        requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                                .withNumberOfInteractions(exactly(2))
+                )))
+                .isInstanceOf(VerificationException.class)
+                .hasMessageStartingWith("2 of 3 verifications failed:")
+                .hasMessageContaining("1) Expected exactly 2 requests matching the following pattern but received 1")
+                .hasMessageContaining("2) Expected exactly 2 requests matching the following pattern but received 1");
+    }
+
+    @Test
+    @DisplayName("POST requests with json bodies matched in parallel verified correctly")
+    void verifyPostRequestsWithParallelJsonBodyMatching() {
+        stubFor(post("/test")
+                .willReturn(ok())
+        );
+
+        RestTemplate restTemplate = new RestTemplateBuilder().build();
+        for (int i = 0; i < 100; i++) {
+            restTemplate.postForEntity("http://localhost:" + wiremockPort + "/test", """
+                    {
+                        "id": %d,
+                        "type": "%s"
+                    }
+                    """.formatted(i, i % 2 == 0 ? "even" : "odd"), String.class);
+        }
+
+        JsonBodyVerifier evenBodiesVerifier = new JsonBodyVerifier("""
+                {
+                    "id": 0,
+                    "type": "even"
+                }
+                """, JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT, "id")).inParallel();
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                .withNumberOfInteractions(moreThanOrExactly(50))
+                .withBody(evenBodiesVerifier)
+        );
+
+        assertThatThrownBy(
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withNumberOfInteractions(moreThanOrExactly(51))
+                        .withBody(evenBodiesVerifier)
+                ))
+                .isInstanceOf(VerificationException.class)
+                .hasMessageStartingWith(
+                        "Expected more than or exactly 51 requests matching the following pattern but received 50");
+    }
+
+    @Test
+    @DisplayName("Verifiers of different servers verify the requests of their own server")
+    void verifyWithVerifiersOfDifferentServersTest() {
+        WireMockServer otherServer = new WireMockServer(WireMockConfiguration.wireMockConfig().dynamicPort());
+        otherServer.start();
+        try {
+            new WireMockStubCreator(otherServer).createEmptyStub(RequestMethod.GET, urlEqualTo("/other"));
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.submit(() -> {
+                Thread.sleep(200);
+                return new RestTemplate().getForEntity("http://localhost:" + otherServer.port() + "/other",
+                        String.class);
+            });
+
+            WireMockVerifier otherVerifier = new WireMockVerifier(otherServer);
+            otherVerifier.verifyThat(requestedFor(RequestMethod.GET, urlEqualTo("/other"))
+                    .withNumberOfInteractions(exactly(1))
+                    .waitAtMost(Duration.ofSeconds(5))
+            );
+            new WireMockVerifier(wireMockServer).verifyThat(requestedFor(RequestMethod.GET, urlEqualTo("/other"))
+                    .withNumberOfInteractions(exactly(0))
+            );
+        } finally {
+            otherServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Only the requests with the tag of the current test are verified")
+    void verifyTaggedRequestsTest() {
+        stubFor(WireMock.get("/test")
+                .willReturn(ok())
+        );
+        RestTemplate restTemplate = new RestTemplateBuilder()
+                .additionalInterceptors(new RequestTagInterceptor())
+                .build();
+        try {
+            RequestTags.set("other-test");
+            restTemplate.getForEntity("http://localhost:" + wiremockPort + "/test", String.class);
+            restTemplate.getForEntity("http://localhost:" + wiremockPort + "/test", String.class);
+            RequestTags.start();
+            restTemplate.getForEntity("http://localhost:" + wiremockPort + "/test", String.class);
+
+            verify(requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                    .withNumberOfInteractions(exactly(1))
+            );
+            verify(requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                    .withTag("other-test")
+                    .withNumberOfInteractions(exactly(2))
+            );
+        } finally {
+            RequestTags.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Request tag is carried by the wrapped tasks only, not inherited by pooled threads")
+    void requestTagPropagationTest() throws Exception {
+        stubFor(WireMock.get("/test")
+                .willReturn(ok())
+        );
+        RestTemplate restTemplate = new RestTemplateBuilder()
+                .additionalInterceptors(new RequestTagInterceptor())
+                .build();
+        Runnable sendRequest = () -> restTemplate.getForEntity("http://localhost:" + wiremockPort + "/test",
+                String.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String tag = RequestTags.start();
+            executor.submit(sendRequest).get();
+            executor.submit(RequestTags.wrap(sendRequest)).get();
+            RequestTags.propagating(executor).execute(sendRequest);
+            // the untagged task runs after the wrapped one and must not see its tag
+            executor.submit(sendRequest).get();
+
+            verify(requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                    .withTag(tag)
+                    .withNumberOfInteractions(exactly(2))
+            );
+            RequestTags.clear();
+            verify(requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                    .withNumberOfInteractions(exactly(4))
+            );
+        } finally {
+            RequestTags.clear();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Verification is recorded as a JFR event and with Micrometer meters")
+    void verificationMetricsTest(@TempDir Path tempDir) throws Exception {
+        stubFor(WireMock.post("/test")
+                .willReturn(ok())
+        );
+        new RestTemplate().postForEntity("http://localhost:" + wiremockPort + "/test", "{\"key\": 1}", String.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WireMockVerifier verifier = new WireMockVerifier(wireMockServer)
+                .withMetricsListener(new MicrometerVerificationMetrics(registry));
+
+        Path recordingFile = tempDir.resolve("verification.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.abadeksvp.integrationteststoolkit.WireMockVerification");
+            recording.enable("com.abadeksvp.integrationteststoolkit.WireMockBodyMatch");
+            recording.start();
+            verifier.verifyThat(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                    .withJsonBody("{\"key\": 1}")
+            );
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .contains("com.abadeksvp.integrationteststoolkit.WireMockVerification",
+                        "com.abadeksvp.integrationteststoolkit.WireMockBodyMatch");
+        RecordedEvent verificationEvent = events.stream()
+                .filter(event -> event.getEventType().getName().endsWith("WireMockVerification"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(verificationEvent.getString("request")).isEqualTo("POST /test");
+        assertThat(verificationEvent.getBoolean("passed")).isTrue();
+        assertThat(verificationEvent.getInt("scannedRequests")).isEqualTo(1);
+        assertThat(verificationEvent.getInt("pollCount")).isEqualTo(1);
+        assertThat(registry.timer("wiremock.verification", "outcome", "passed").count()).isEqualTo(1);
+        assertThat(registry.summary("wiremock.verification.scanned.requests", "outcome", "passed").totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failed JSON body verification reports the request with the closest body")
+    void verifyJsonBodyReportsClosestRequestTest() {
+        stubFor(WireMock.post("/test")
+                .willReturn(ok())
+        );
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.postForEntity("http://localhost:" + wiremockPort + "/test",
+                "{\"name\": \"unrelated\", \"items\": [1, 2, 3]}", String.class);
+        restTemplate.postForEntity("http://localhost:" + wiremockPort + "/test", "{\"key\": \"value1\"}",
+                String.class);
+
+        assertThatThrownBy(
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withNumberOfInteractions(moreThanOrExactly(1))
+                        .withJsonBody("{\"key\": \"value2\"}")
+                ))
+                .isInstanceOf(VerificationException.class)
+                .hasMessageStartingWith("No requests exactly matched. Most similar request was")
+                .hasMessageContaining("value1")
+                .hasMessageNotContaining("unrelated");
+    }
+
+    @Test
+    @DisplayName("Failed batch verification reports the closest request of the fetched journal")
+    void verifyAllReportsClosestRequestTest() {
+        stubFor(WireMock.get("/test")
+                .willReturn(ok())
+        );
+        new RestTemplate().getForEntity("http://localhost:" + wiremockPort + "/test", String.class);
+
+        assertThatThrownBy(
+                () -> verifyAll(List.of(
+                        requestedFor(RequestMethod.GET, urlEqualTo("/test")),
+                        requestedFor(RequestMethod.GET, urlEqualTo("/tset"))
+                )))
+                .isInstanceOf(VerificationException.class)
+                .hasMessageStartingWith("No requests exactly matched. Most similar request was")
+                .hasMessageContaining("/test");
+    }
+
+    @Test
+    @DisplayName("JSON body compared with Jackson engine is verified with JSONAssert compare modes and ignored fields")
+    void verifyJsonBodyWithJacksonEngineTest() {
+        stubFor(WireMock.post("/test")
+                .willReturn(ok())
+        );
+        new RestTemplate().postForEntity("http://localhost:" + wiremockPort + "/test", """
+                {
+                    "id": 42,
+                    "price": 10.0,
+                    "tags": ["b", "a"],
+                    "extra": true
+                }
+                """, String.class);
+        String expectedBody = """
+                {
+                    "id": 1,
+                    "price": 10,
+                    "tags": ["a", "b"]
+                }
+                """;
+
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                .withJsonBody(expectedBody, new JacksonComparisonEngine(JSONCompareMode.LENIENT, "id"))
+        );
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withJsonBody(expectedBody, new JacksonComparisonEngine(JSONCompareMode.LENIENT))
+                ));
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withJsonBody(expectedBody, new JacksonComparisonEngine(JSONCompareMode.NON_EXTENSIBLE, "id"))
+                ));
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withJsonBody(expectedBody, new JacksonComparisonEngine(JSONCompareMode.STRICT_ORDER, "id"))
+                ));
+    }
+
+    @Test
+    @DisplayName("JSON body is verified with wildcard ignored fields and identical compare rules share a comparator")
+    void verifyJsonBodyWithWildcardIgnoredFieldsTest() {
+        stubFor(WireMock.post("/test")
+                .willReturn(ok())
+        );
+        new RestTemplate().postForEntity("http://localhost:" + wiremockPort + "/test", """
+                {
+                    "id": 42,
+                    "order": {
+                        "id": 43,
+                        "items": [{"id": 44, "price": 10}, {"id": 45, "price": 20}]
+                    }
+                }
+                """, String.class);
+        String expectedBody = """
+                {
+                    "id": 1,
+                    "order": {
+                        "id": 2,
+                        "items": [{"id": 3, "price": 11}, {"id": 4, "price": 21}]
+                    }
+                }
+                """;
+
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                .withJsonBody(expectedBody,
+                        JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT, "**.id", "order.items[*].price"))
+        );
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                .withJsonBody(expectedBody,
+                        new JacksonComparisonEngine(JSONCompareMode.STRICT, "**.id", "order.items[*].price"))
+        );
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/test"))
+                        .withJsonBody(expectedBody, JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT, "**.id"))
+                ));
+        assertThat(JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT, "**.id"))
+                .isSameAs(JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT, "**.id"));
+    }
+
+    @Test
+    @DisplayName("JSON body is verified exactly regardless of the field order and whitespace")
+    void verifyExactJsonBodyTest() {
+        stubFor(WireMock.post(WireMock.urlMatching("/.*"))
+                .willReturn(ok())
+        );
+        RestTemplate restTemplate = new RestTemplate();
+        String url = "http://localhost:" + wiremockPort;
+        restTemplate.postForEntity(url + "/equal", "{\"b\": [1, 2.0], \"a\": {\"c\": null, \"d\": \"text\"}}",
+                String.class);
+        restTemplate.postForEntity(url + "/equal", """
+                {
+                    "a": {
+                        "d": "text",
+                        "c": null
+                    },
+                    "b": [1, 2]
+                }
+                """, String.class);
+        restTemplate.postForEntity(url + "/different", "{\"a\": {\"c\": null, \"d\": \"text\"}, \"b\": [2, 1]}",
+                String.class);
+        restTemplate.postForEntity(url + "/different",
+                "{\"a\": {\"c\": null, \"d\": \"text\"}, \"b\": [1, 2], \"e\": 1}", String.class);
+        String expectedBody = "{\"a\": {\"c\": null, \"d\": \"text\"}, \"b\": [1, 2]}";
+
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/equal"))
+                .withNumberOfInteractions(exactly(2))
+                .withJsonBody(expectedBody)
+        );
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/different"))
+                        .withNumberOfInteractions(moreThanOrExactly(1))
+                        .withJsonBody(expectedBody)
+                ));
+    }
+
+    @Test
+    @DisplayName("Requests recorded by a bounded journal are verified with their spilled bodies")
+    void verifyWithBoundedRequestJournalTest() {
+        WireMockServer otherServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
+                .dynamicPort()
+                .disableRequestJournal());
+        otherServer.start();
+        try (BoundedRequestJournal journal = BoundedRequestJournal.attachTo(otherServer, 2, 16)) {
+            new WireMockStubCreator(otherServer).createEmptyStub(RequestMethod.POST, WireMock.urlMatching("/.*"));
+            String url = "http://localhost:" + otherServer.port();
+            String spilledBody = "{\"id\": 1, \"name\": \"spilled body\"}";
+            RestTemplate restTemplate = new RestTemplate();
+            restTemplate.postForEntity(url + "/evicted", spilledBody, String.class);
+            restTemplate.postForEntity(url + "/small", "{}", String.class);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.submit(() -> {
+                Thread.sleep(200);
+                return restTemplate.postForEntity(url + "/spilled", spilledBody, String.class);
+            });
+
+            WireMockVerifier verifier = new WireMockVerifier(otherServer, journal);
+            verifier.verifyThat(requestedFor(RequestMethod.POST, urlEqualTo("/spilled"))
+                    .withNumberOfInteractions(exactly(1))
+                    .withJsonBody(spilledBody)
+                    .waitAtMost(Duration.ofSeconds(5))
+            );
+            verifier.verifyThat(requestedFor(RequestMethod.POST, urlEqualTo("/spilled"))
+                    .withTextBody(WireMock.containing("spilled body"))
+            );
+            verifier.verifyThat(requestedFor(RequestMethod.POST, urlEqualTo("/small"))
+                    .withNumberOfInteractions(exactly(1))
+                    .withJsonBody("{}")
+            );
+            verifier.verifyThat(requestedFor(RequestMethod.POST, urlEqualTo("/evicted"))
+                    .withNumberOfInteractions(exactly(0))
+            );
+            assertThatThrownBy(() -> verifier.verifyThat(requestedFor(RequestMethod.POST, urlEqualTo("/spilled"))
+                    .withJsonBody("{\"id\": 2, \"name\": \"spilled body\"}")))
+                    .isInstanceOf(VerificationException.class)
+                    .hasMessageContaining("\"id\": 1");
+        } finally {
+            otherServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Asynchronous verifications wait at the same time and complete with their results")
+    void verifyAsyncTest() {
+        stubFor(WireMock.post(WireMock.urlMatching("/.*"))
+                .willReturn(ok())
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (String path : List.of("/first", "/second")) {
+            executor.submit(() -> {
+                Thread.sleep(1000);
+                return new RestTemplate().postForEntity("http://localhost:" + wiremockPort + path, "{}",
+                        String.class);
+            });
+        }
+
+        CompletableFuture.allOf(
+                WireMockVerifier.verifyAsync(requestedFor(RequestMethod.POST, urlEqualTo("/first"))
+                        .withNumberOfInteractions(exactly(1))
+                        .waitAtMost(Duration.ofSeconds(5))),
+                WireMockVerifier.verifyAsync(requestedFor(RequestMethod.POST, urlEqualTo("/second"))
+                        .withNumberOfInteractions(exactly(1))
+                        .waitAtMost(Duration.ofSeconds(5)))
+        ).join();
+
+        CompletableFuture<Void> failedVerification = WireMockVerifier.verifyAsync(
+                requestedFor(RequestMethod.POST, urlEqualTo("/first"))
+                        .withNumberOfInteractions(exactly(2))
+        );
+        assertThatThrownBy(failedVerification::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(VerificationException.class);
+    }
+
+    @Test
+    @DisplayName("Async request will be awaited with the poll strategy of the spec")
+    void verifyAwaitWithPollStrategyTest() {
+        stubFor(WireMock.get("/test")
+                .willReturn(ok())
+        );
+        WireMockOperations client = WireMockOperations.of(new WireMock("localhost", wiremockPort));
+        List<Long> pollTimes = new CopyOnWriteArrayList<>();
+        WireMockOperations pollRecordingClient = new WireMockOperations() {
+            @Override
+            public List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder) {
+                pollTimes.add(System.nanoTime());
+                return client.findAll(requestPatternBuilder);
+            }
+
+            @Override
+            public List<NearMiss> findNearMissesFor(RequestPatternBuilder requestPatternBuilder) {
+                return client.findNearMissesFor(requestPatternBuilder);
+            }
+
+            @Override
+            public void verify(RequestPatternBuilder requestPatternBuilder) {
+                client.verify(requestPatternBuilder);
+            }
+
+            @Override
+            public StubMapping stubFor(MappingBuilder mappingBuilder) {
+                return client.stubFor(mappingBuilder);
+            }
+
+            @Override
+            public void importStubs(StubImportBuilder stubImport) {
+                client.importStubs(stubImport);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            Thread.sleep(1000);
+            return new RestTemplate().getForEntity("http://localhost:" + wiremockPort + "/test", String.class);
+        });
+        PollStrategy exponential = PollStrategy.exponential(Duration.ofMillis(50), Duration.ofMillis(400))
+                .withInitialDelay(Duration.ZERO);
+
+        new WireMockVerifier(pollRecordingClient).verifyThat(requestedFor(RequestMethod.GET, urlEqualTo("/test"))
+                .withNumberOfInteractions(exactly(1))
+                .waitAtMost(Duration.ofSeconds(5))
+                .withPollStrategy(exponential)
+        );
+
+        // polls at 0, 50, 150, 350, 750 and 1150 ms, the default 100 ms interval would poll at least 10 times
+        assertThat(pollTimes).hasSizeBetween(2, 8);
+        for (int i = 1; i < pollTimes.size(); i++) {
+            Duration interval = Duration.ofNanos(pollTimes.get(i) - pollTimes.get(i - 1));
+            assertThat(interval).as("interval before poll %d", i + 1)
+                    .isGreaterThanOrEqualTo(exponential.next(i, null).minusMillis(5));
+        }
+        assertThat(List.of(1, 2, 3, 4, 5).stream().map(pollCount -> exponential.next(pollCount, null)).toList())
+                .containsExactly(Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(200),
+                        Duration.ofMillis(400), Duration.ofMillis(400));
+    }
+
+    @Test
+    @DisplayName("Text and XML bodies are matched against the fetched requests and counted as JSON bodies")
+    void verifyTextAndXmlBodyCountsTest() {
+        stubFor(WireMock.post(WireMock.urlMatching("/.*"))
+                .willReturn(ok())
+        );
+        RestTemplate restTemplate = new RestTemplate();
+        String url = "http://localhost:" + wiremockPort;
+        restTemplate.postForEntity(url + "/text", "first", String.class);
+        restTemplate.postForEntity(url + "/text", "second", String.class);
+        restTemplate.postForEntity(url + "/text", "first", String.class);
+        restTemplate.postForEntity(url + "/xml", "<order><id>1</id></order>", String.class);
+        restTemplate.postForEntity(url + "/xml", "<order>\n    <id>1</id>\n</order>", String.class);
+
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/text"))
+                .withNumberOfInteractions(moreThanOrExactly(2))
+                .withTextBody(equalTo("first"))
+        );
+        assertThatThrownBy(() -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/text"))
+                .withNumberOfInteractions(exactly(3))
+                .withTextBody(equalTo("first"))))
+                .isInstanceOf(VerificationException.class)
+                .hasMessageStartingWith("Expected exactly 3 requests matching the following pattern but received 2");
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/xml"))
+                .withNumberOfInteractions(exactly(2))
+                .withXmlBody(WireMock.equalToXml("<order><id>1</id></order>"))
+        );
+    }
+
+    @Test
+    @DisplayName("XML body is compared in a streaming pass with ignored elements and attributes")
+    void verifyStreamingXmlBodyTest() {
+        stubFor(WireMock.post(WireMock.urlMatching("/.*"))
+                .willReturn(ok())
+        );
+        RestTemplate restTemplate = new RestTemplate();
+        String url = "http://localhost:" + wiremockPort;
+        restTemplate.postForEntity(url + "/equal", """
+                <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/">
+                    <soap:Header>
+                        <MessageID>42</MessageID>
+                    </soap:Header>
+                    <!-- the order of attributes does not matter -->
+                    <soap:Body>
+                        <order status="new" id="1" timestamp="2024-01-01T00:00:00">
+                            <item>book</item>
+                        </order>
+                    </soap:Body>
+                </soap:Envelope>
+                """, String.class);
+        restTemplate.postForEntity(url + "/different", """
+                <env:Envelope xmlns:env="http://schemas.xmlsoap.org/soap/envelope/">
+                    <env:Header><MessageID>43</MessageID></env:Header>
+                    <env:Body><order id="1" status="new"><item>pen</item></order></env:Body>
+                </env:Envelope>
+                """, String.class);
+        String expectedBody = """
+                <env:Envelope xmlns:env="http://schemas.xmlsoap.org/soap/envelope/">
+                    <env:Header><MessageID>1</MessageID></env:Header>
+                    <env:Body><order id="1" status="new"><item>book</item></order></env:Body>
+                </env:Envelope>
+                """;
+
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/equal"))
+                .withNumberOfInteractions(exactly(1))
+                .withXmlBody(expectedBody, "MessageID", "@timestamp")
+        );
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/equal"))
+                        .withXmlBody(expectedBody, "MessageID")
+                ));
+        assertThrows(VerificationException.class,
+                () -> verify(requestedFor(RequestMethod.POST, urlEqualTo("/different"))
+                        .withXmlBody(expectedBody, "MessageID", "@timestamp")
+                ));
+        verify(requestedFor(RequestMethod.POST, urlEqualTo("/equal"))
+                .withNumberOfInteractions(exactly(1))
+                .withXmlBody((String) null)
+        );
+    }
 }
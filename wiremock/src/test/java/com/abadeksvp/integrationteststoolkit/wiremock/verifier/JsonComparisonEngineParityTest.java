@@ -0,0 +1,107 @@
+package com.abadeksvp.integrationteststoolkit.wiremock.verifier;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import com.abadeksvp.integrationteststoolkit.JsonAssertUtils;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonComparisonEngineParityTest {
+
+    private static final List<String> EXPECTED_AND_ACTUAL_BODIES = List.of(
+            "{\"a\": 1, \"b\": [1, 2, 3]}", "{\"a\": 1, \"b\": [1, 2, 3]}",
+            "{\"a\": 1, \"b\": [1, 2, 3]}", "{\"b\": [3, 2, 1], \"a\": 1}",
+            "{\"a\": 1, \"b\": [1, 2, 3]}", "{\"a\": 1, \"b\": [1, 2, 3], \"c\": true}",
+            "{\"a\": 1, \"b\": [1, 2, 3]}", "{\"a\": 1, \"b\": [1, 2]}",
+            "{\"a\": 1, \"b\": 2}", "{\"a\": 1}",
+            "{\"a\": 1}", "{\"a\": 1.0}",
+            "{\"a\": 1}", "{\"a\": \"1\"}",
+            "{\"a\": null}", "{\"a\": null}",
+            "{\"a\": null}", "{}",
+            "[1, 2]", "[2, 1]",
+            "[1, 1, 2]", "[1, 2, 2]",
+            "[[1, 2], [3]]", "[[3], [2, 1]]",
+            "{\"items\": [{\"id\": 1, \"n\": \"x\"}, {\"id\": 2, \"n\": \"y\"}]}",
+            "{\"items\": [{\"id\": 2, \"n\": \"y\"}, {\"id\": 1, \"n\": \"x\"}]}",
+            "{\"items\": [{\"id\": 1, \"n\": \"x\"}]}", "{\"items\": [{\"id\": 1, \"n\": \"x\", \"extra\": 0}]}",
+            "{\"items\": [{\"id\": 1}, {\"id\": 1}]}", "{\"items\": [{\"id\": 1}, {\"id\": 2}]}",
+            "{\"nested\": {\"list\": [{\"k\": [1, 2]}]}}", "{\"nested\": {\"list\": [{\"k\": [2, 1]}]}}",
+            "{\"a\": 1}", "not json"
+    );
+
+    static Stream<Arguments> cases() {
+        return Stream.of(JSONCompareMode.STRICT, JSONCompareMode.LENIENT, JSONCompareMode.NON_EXTENSIBLE,
+                        JSONCompareMode.STRICT_ORDER)
+                .flatMap(compareMode -> Stream.iterate(0, i -> i < EXPECTED_AND_ACTUAL_BODIES.size(), i -> i + 2)
+                        .map(i -> Arguments.of(compareMode, EXPECTED_AND_ACTUAL_BODIES.get(i),
+                                EXPECTED_AND_ACTUAL_BODIES.get(i + 1))));
+    }
+
+    @ParameterizedTest(name = "{0}: {1} and {2}")
+    @MethodSource("cases")
+    @DisplayName("Jackson engine matches the same bodies as JSONAssert")
+    void enginesMatchTheSameBodiesTest(JSONCompareMode compareMode, String expected, String actual) {
+        LoggedRequest request = request(actual, StandardCharsets.UTF_8);
+
+        boolean jsonAssertResult = new JsonAssertComparisonEngine(JsonAssertUtils.withCompareRules(compareMode))
+                .compile(expected).test(request);
+        boolean jacksonResult = new JacksonComparisonEngine(compareMode).compile(expected).test(request);
+
+        assertThat(jacksonResult).isEqualTo(jsonAssertResult);
+    }
+
+    @ParameterizedTest(name = "{0}: {1} and {2}")
+    @MethodSource("cases")
+    @DisplayName("Jackson engine ignores the same fields matched by a leading ** as JSONAssert")
+    void enginesIgnoreTheSameFieldsTest(JSONCompareMode compareMode, String expected, String actual) {
+        LoggedRequest request = request(actual, StandardCharsets.UTF_8);
+
+        boolean jsonAssertResult = new JsonAssertComparisonEngine(JsonAssertUtils.withCompareRules(compareMode,
+                "**.n", "**.a")).compile(expected).test(request);
+        boolean jacksonResult = new JacksonComparisonEngine(compareMode, "**.n", "**.a").compile(expected)
+                .test(request);
+
+        assertThat(jacksonResult).isEqualTo(jsonAssertResult);
+    }
+
+    @Test
+    @DisplayName("Bodies are decoded with the charset of their content type")
+    void bodiesAreDecodedWithContentTypeCharsetTest() {
+        String expected = "{\"name\": \"r\u00e9sum\u00e9\"}";
+
+        for (Charset charset : List.of(StandardCharsets.ISO_8859_1, StandardCharsets.UTF_8,
+                StandardCharsets.UTF_16BE)) {
+            LoggedRequest request = request(expected, charset);
+            assertThat(new JacksonComparisonEngine(JSONCompareMode.STRICT).compile(expected).test(request))
+                    .as(charset.name())
+                    .isTrue();
+            assertThat(new JsonAssertComparisonEngine(JsonAssertUtils.withCompareRules(JSONCompareMode.STRICT))
+                    .compile(expected).test(request))
+                    .as(charset.name())
+                    .isTrue();
+        }
+    }
+
+    private static LoggedRequest request(String body, Charset charset) {
+        HttpHeaders headers = new HttpHeaders(new HttpHeader("Content-Type",
+                "application/json; charset=" + charset.name()));
+        return new LoggedRequest("/", "http://localhost/", RequestMethod.POST, "127.0.0.1", headers, Map.of(), false,
+                new Date(), body.getBytes(charset), null, "HTTP/1.1");
+    }
+}